@@ -0,0 +1,49 @@
+package coded.dependency.injection.benchmark;
+
+import coded.dependency.injection.Injector;
+import coded.dependency.injection.InjectorTemplate;
+
+/**
+ * Prints the heap retained per context of many session contexts created from a
+ * template, empty or with a started 4x4 graph, run from the benchmark
+ * directory:
+ *
+ * <pre>
+ * java -Xmx2g -XX:+UseSerialGC -cp target/benchmarks.jar coded.dependency.injection.benchmark.ContextFootprint [contexts] [wired]
+ * </pre>
+ */
+public final class ContextFootprint {
+
+	private ContextFootprint() {
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int contexts = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		boolean wired = args.length > 1 && Boolean.parseBoolean(args[1]);
+		SyntheticGraph graph = new SyntheticGraph(4, 4, 2);
+		InjectorTemplate template = graph.defineConstructions(InjectorTemplate.create())
+			.setLogger(null);
+		// assigns the bean ids before measuring
+		graph.makeBeans(Injector.getContext("warmup", template))
+			.remove();
+		long before = usedHeap();
+		for (int i = 0; i < contexts; i++) {
+			Injector injector = Injector.getContext("session" + i, template);
+			if (wired) {
+				graph.makeBeans(injector)
+					.start();
+			}
+		}
+		long after = usedHeap();
+		System.out.printf("contexts=%d wired=%s bytes/context=%d%n", contexts, wired, (after - before) / contexts);
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,97 @@
+package coded.dependency.injection.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import coded.dependency.injection.Injector;
+
+/**
+ * Session churn: concurrent threads create and remove their own named contexts
+ * while other contexts are looked up. With eviction the contexts are not
+ * removed, the registry is bounded by a background eviction.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ContextRegistryBenchmark {
+
+	private static final int LIVE_CONTEXTS = 10_000;
+
+	@State(Scope.Benchmark)
+	public static class Registry {
+		@Setup(Level.Trial)
+		public void setup() {
+			for (int i = 0; i < LIVE_CONTEXTS; i++) {
+				Injector.getContext("live-" + i)
+					.setLogger(null);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			Injector.removeAll();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Eviction {
+		@Setup(Level.Trial)
+		public void setup() {
+			Injector.setEviction(null, LIVE_CONTEXTS);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			Injector.disableEviction();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Session {
+		private static int threads;
+		String prefix;
+		long counter;
+		int lookup;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			synchronized (Session.class) {
+				prefix = "session-" + threads++ + "-";
+			}
+		}
+	}
+
+	@Benchmark
+	public Injector createAndRemove(Registry registry, Session session) {
+		return Injector.getContext(session.prefix + session.counter++)
+			.remove();
+	}
+
+	@Benchmark
+	public Injector createWithEviction(Registry registry, Eviction eviction, Session session) {
+		return Injector.getContext(session.prefix + session.counter++);
+	}
+
+	@Benchmark
+	public Injector lookup(Registry registry, Session session) {
+		session.lookup = (session.lookup + 1) % LIVE_CONTEXTS;
+		return Injector.getContext("live-" + session.lookup);
+	}
+}
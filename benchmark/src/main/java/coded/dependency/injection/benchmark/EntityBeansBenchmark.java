@@ -0,0 +1,68 @@
+package coded.dependency.injection.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import coded.dependency.injection.Injector;
+
+/**
+ * Wiring, start and stop of beans holding 4096 longs, with
+ * {@code deepHashCode} they override {@code hashCode} with a deep hash of them
+ * like entity beans. The injector tracks dependents by identity, the scores
+ * should not depend on {@code deepHashCode}.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBeansBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class EntityGraph {
+		@Param({ "false", "true" })
+		public boolean deepHashCode;
+
+		private final AtomicLong contextCounter = new AtomicLong();
+		SyntheticGraph graph;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			graph = new SyntheticGraph(16, 8, 4).withState(4096, deepHashCode);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			Injector.removeAll();
+		}
+
+		Injector newContext() {
+			Injector injector = Injector.getContext("entities-" + contextCounter.incrementAndGet())
+				.setLogger(null);
+			return graph.defineConstructions(injector);
+		}
+	}
+
+	@Benchmark
+	public Injector makeBeansStartStop(EntityGraph state) {
+		return state.graph.makeBeans(state.newContext())
+			.start()
+			.stop()
+			.remove();
+	}
+}
@@ -0,0 +1,73 @@
+package coded.dependency.injection.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import coded.dependency.injection.Injector;
+
+/**
+ * Cost of a single {@link Injector#getBean(Class)} on a wired context and on a
+ * frozen context, the looked up bean type changes with every call.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetBeanBenchmark {
+
+	@State(Scope.Thread)
+	public static class WiredContext {
+		Injector injector;
+		Class<?>[] types;
+		int next;
+
+		@Setup(Level.Trial)
+		public void setup(GraphState state) {
+			injector = state.newWiredContext();
+			types = new Class<?>[state.graph.getBeanCount()];
+			for (int i = 0; i < types.length; i++) {
+				types[i] = state.graph.typeOf(i);
+			}
+		}
+
+		Class<?> nextType() {
+			if (++next == types.length) {
+				next = 0;
+			}
+			return types[next];
+		}
+	}
+
+	@Benchmark
+	public Object getBean(WiredContext context) {
+		return context.injector.getBean(context.nextType());
+	}
+
+	@State(Scope.Thread)
+	public static class FrozenContext extends WiredContext {
+		@Override
+		@Setup(Level.Trial)
+		public void setup(GraphState state) {
+			super.setup(state);
+			injector.freeze();
+		}
+	}
+
+	@Benchmark
+	public Object getBeanFrozen(FrozenContext context) {
+		return context.injector.getBean(context.nextType());
+	}
+}
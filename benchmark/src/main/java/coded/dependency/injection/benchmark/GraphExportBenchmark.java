@@ -0,0 +1,53 @@
+package coded.dependency.injection.benchmark;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import coded.dependency.injection.GraphFormat;
+import coded.dependency.injection.Injector;
+
+/**
+ * Cost of {@link Injector#exportGraph(Writer, GraphFormat, boolean)} of a
+ * wired context to a null writer.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphExportBenchmark {
+
+	@State(Scope.Thread)
+	public static class WiredContext {
+		Injector injector;
+		final Writer out = Writer.nullWriter();
+
+		@Setup(Level.Trial)
+		public void setup(GraphState state) {
+			injector = state.newWiredContext();
+		}
+	}
+
+	@Benchmark
+	public Injector exportDot(WiredContext context) {
+		return context.injector.exportGraph(context.out, GraphFormat.DOT, false);
+	}
+
+	@Benchmark
+	public Injector exportJson(WiredContext context) {
+		return context.injector.exportGraph(context.out, GraphFormat.JSON, true);
+	}
+}
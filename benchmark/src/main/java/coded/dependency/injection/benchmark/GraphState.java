@@ -0,0 +1,83 @@
+package coded.dependency.injection.benchmark;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import coded.dependency.injection.Injector;
+import coded.dependency.injection.InjectorTemplate;
+import coded.dependency.injection.LogBindingAdapter;
+import coded.dependency.injection.LogBindingInterface;
+
+/**
+ * Graph shape and logging parameters shared by all benchmarks. With logging
+ * enabled the default {@link LogBindingAdapter} is used, it formats every line
+ * but writes to a null writer.
+ *
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+	@Param({ "4", "16" })
+	public int width;
+
+	@Param({ "4", "16" })
+	public int depth;
+
+	@Param({ "1", "4" })
+	public int fanIn;
+
+	@Param({ "false", "true" })
+	public boolean logging;
+
+	private final AtomicLong contextCounter = new AtomicLong();
+
+	SyntheticGraph graph;
+	InjectorTemplate template;
+
+	@Setup(Level.Trial)
+	public void setupGraph() {
+		graph = new SyntheticGraph(width, depth, fanIn);
+		template = graph.defineConstructions(InjectorTemplate.create()
+			.setLogger(newLogger()));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownGraph() {
+		Injector.removeAll();
+	}
+
+	/**
+	 * @return a new context with all constructions of the graph defined
+	 */
+	Injector newContext() {
+		Injector injector = Injector.getContext("benchmark-" + contextCounter.incrementAndGet());
+		injector.setLogger(newLogger());
+		return graph.defineConstructions(injector);
+	}
+
+	/**
+	 * @return a new context sharing the constructions of the graph template
+	 */
+	Injector newContextFromTemplate() {
+		return Injector.getContext("benchmark-" + contextCounter.incrementAndGet(), template);
+	}
+
+	private LogBindingInterface newLogger() {
+		return logging ? new LogBindingAdapter(new PrintWriter(Writer.nullWriter())) : null;
+	}
+
+	/**
+	 * @return a new context with all beans of the graph created
+	 */
+	Injector newWiredContext() {
+		return graph.makeBeans(newContext());
+	}
+}
@@ -0,0 +1,85 @@
+package coded.dependency.injection.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import coded.dependency.injection.Injector;
+
+/**
+ * Cost of {@link Injector#start()} and {@link Injector#stop()} of all beans of
+ * the graph. Beans are started and stopped only once per context, with that a
+ * new context is wired for every invocation.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LifecycleBenchmark {
+
+	@State(Scope.Thread)
+	public static class WiredContext {
+		Injector injector;
+
+		@Setup(Level.Invocation)
+		public void setup(GraphState state) {
+			injector = state.newWiredContext();
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			injector.remove();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class StartedContext {
+		Injector injector;
+
+		@Setup(Level.Invocation)
+		public void setup(GraphState state) {
+			injector = state.newWiredContext()
+				.start();
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			injector.remove();
+		}
+	}
+
+	@Benchmark
+	public Injector start(WiredContext context) {
+		return context.injector.start();
+	}
+
+	@Benchmark
+	public Injector startParallel(WiredContext context) {
+		return context.injector.start(ForkJoinPool.commonPool());
+	}
+
+	@Benchmark
+	public Injector stop(StartedContext context) {
+		return context.injector.stop();
+	}
+
+	@Benchmark
+	public Injector stopParallel(StartedContext context) {
+		return context.injector.stop(ForkJoinPool.commonPool(), Duration.ofMinutes(1), Duration.ofMinutes(1));
+	}
+}
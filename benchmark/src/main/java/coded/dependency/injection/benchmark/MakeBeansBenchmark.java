@@ -0,0 +1,54 @@
+package coded.dependency.injection.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import coded.dependency.injection.Injector;
+import coded.dependency.injection.InjectorTemplate;
+
+/**
+ * Cost of creating a named context, defining all constructions and wiring all
+ * roots of the graph, the context is removed afterwards. The parallel variant
+ * uses {@link ForkJoinPool#commonPool()}, the template variant shares the
+ * constructions of an {@link InjectorTemplate} instead of defining them.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MakeBeansBenchmark {
+
+	@Benchmark
+	public Injector makeBeans(GraphState state) {
+		return state.newWiredContext()
+			.remove();
+	}
+
+	@Benchmark
+	public Injector makeBeansParallel(GraphState state) {
+		return state.graph.makeBeans(state.newContext(), ForkJoinPool.commonPool())
+			.remove();
+	}
+
+	@Benchmark
+	public Injector makeBeansFromTemplate(GraphState state) {
+		return state.graph.makeBeans(state.newContextFromTemplate())
+			.remove();
+	}
+
+	@Benchmark
+	public Injector newContextFromTemplate(GraphState state) {
+		return state.newContextFromTemplate()
+			.remove();
+	}
+}
@@ -0,0 +1,65 @@
+package coded.dependency.injection.benchmark;
+
+import java.util.Arrays;
+
+import coded.dependency.injection.Dependency;
+import coded.dependency.injection.Dependent;
+import coded.dependency.injection.Lifecycle;
+
+/**
+ * Bean of a {@link SyntheticGraph}. Every node class of {@link Nodes} is a
+ * distinct bean type, its dependencies are looked up by its index in the graph.
+ *
+ */
+public abstract class Node implements Dependent, Lifecycle {
+
+	private final Dependency<?>[] dependencies;
+	private final long[] state;
+	private final boolean deepHashCode;
+	private boolean running;
+
+	protected Node(SyntheticGraph graph, int index) {
+		state = new long[graph.getStateSize()];
+		Arrays.fill(state, index);
+		deepHashCode = graph.isDeepHashCode();
+		Class<? extends Node>[] targets = graph.dependenciesOf(index);
+		dependencies = new Dependency<?>[targets.length];
+		for (int i = 0; i < targets.length; i++) {
+			dependencies[i] = new Dependency<>(this, targets[i]);
+		}
+	}
+
+	public Dependency<?>[] getDependencies() {
+		return dependencies;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Deep hash of the state like entity beans do, if enabled for the graph.
+	 */
+	@Override
+	public int hashCode() {
+		return deepHashCode ? Arrays.hashCode(state) : super.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!deepHashCode || !(obj instanceof Node)) {
+			return super.equals(obj);
+		}
+		return getClass() == obj.getClass() && Arrays.equals(state, ((Node) obj).state);
+	}
+}
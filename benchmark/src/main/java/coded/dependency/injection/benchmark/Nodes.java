@@ -0,0 +1,2104 @@
+package coded.dependency.injection.benchmark;
+
+/**
+ * The distinct bean types available to {@link SyntheticGraph}, the injector
+ * identifies beans by their class. Generated by {@link NodesGenerator}, do not
+ * edit.
+ *
+ */
+@SuppressWarnings("unchecked")
+final class Nodes {
+
+	static final Class<? extends Node>[] TYPES = new Class[] { //
+			N000.class, N001.class, N002.class, N003.class, N004.class, N005.class, N006.class, N007.class, //
+			N008.class, N009.class, N010.class, N011.class, N012.class, N013.class, N014.class, N015.class, //
+			N016.class, N017.class, N018.class, N019.class, N020.class, N021.class, N022.class, N023.class, //
+			N024.class, N025.class, N026.class, N027.class, N028.class, N029.class, N030.class, N031.class, //
+			N032.class, N033.class, N034.class, N035.class, N036.class, N037.class, N038.class, N039.class, //
+			N040.class, N041.class, N042.class, N043.class, N044.class, N045.class, N046.class, N047.class, //
+			N048.class, N049.class, N050.class, N051.class, N052.class, N053.class, N054.class, N055.class, //
+			N056.class, N057.class, N058.class, N059.class, N060.class, N061.class, N062.class, N063.class, //
+			N064.class, N065.class, N066.class, N067.class, N068.class, N069.class, N070.class, N071.class, //
+			N072.class, N073.class, N074.class, N075.class, N076.class, N077.class, N078.class, N079.class, //
+			N080.class, N081.class, N082.class, N083.class, N084.class, N085.class, N086.class, N087.class, //
+			N088.class, N089.class, N090.class, N091.class, N092.class, N093.class, N094.class, N095.class, //
+			N096.class, N097.class, N098.class, N099.class, N100.class, N101.class, N102.class, N103.class, //
+			N104.class, N105.class, N106.class, N107.class, N108.class, N109.class, N110.class, N111.class, //
+			N112.class, N113.class, N114.class, N115.class, N116.class, N117.class, N118.class, N119.class, //
+			N120.class, N121.class, N122.class, N123.class, N124.class, N125.class, N126.class, N127.class, //
+			N128.class, N129.class, N130.class, N131.class, N132.class, N133.class, N134.class, N135.class, //
+			N136.class, N137.class, N138.class, N139.class, N140.class, N141.class, N142.class, N143.class, //
+			N144.class, N145.class, N146.class, N147.class, N148.class, N149.class, N150.class, N151.class, //
+			N152.class, N153.class, N154.class, N155.class, N156.class, N157.class, N158.class, N159.class, //
+			N160.class, N161.class, N162.class, N163.class, N164.class, N165.class, N166.class, N167.class, //
+			N168.class, N169.class, N170.class, N171.class, N172.class, N173.class, N174.class, N175.class, //
+			N176.class, N177.class, N178.class, N179.class, N180.class, N181.class, N182.class, N183.class, //
+			N184.class, N185.class, N186.class, N187.class, N188.class, N189.class, N190.class, N191.class, //
+			N192.class, N193.class, N194.class, N195.class, N196.class, N197.class, N198.class, N199.class, //
+			N200.class, N201.class, N202.class, N203.class, N204.class, N205.class, N206.class, N207.class, //
+			N208.class, N209.class, N210.class, N211.class, N212.class, N213.class, N214.class, N215.class, //
+			N216.class, N217.class, N218.class, N219.class, N220.class, N221.class, N222.class, N223.class, //
+			N224.class, N225.class, N226.class, N227.class, N228.class, N229.class, N230.class, N231.class, //
+			N232.class, N233.class, N234.class, N235.class, N236.class, N237.class, N238.class, N239.class, //
+			N240.class, N241.class, N242.class, N243.class, N244.class, N245.class, N246.class, N247.class, //
+			N248.class, N249.class, N250.class, N251.class, N252.class, N253.class, N254.class, N255.class
+	};
+
+	private Nodes() {
+	}
+
+	static Node create(int index, SyntheticGraph graph) {
+		switch (index) {
+		case 0:
+			return new N000(graph);
+		case 1:
+			return new N001(graph);
+		case 2:
+			return new N002(graph);
+		case 3:
+			return new N003(graph);
+		case 4:
+			return new N004(graph);
+		case 5:
+			return new N005(graph);
+		case 6:
+			return new N006(graph);
+		case 7:
+			return new N007(graph);
+		case 8:
+			return new N008(graph);
+		case 9:
+			return new N009(graph);
+		case 10:
+			return new N010(graph);
+		case 11:
+			return new N011(graph);
+		case 12:
+			return new N012(graph);
+		case 13:
+			return new N013(graph);
+		case 14:
+			return new N014(graph);
+		case 15:
+			return new N015(graph);
+		case 16:
+			return new N016(graph);
+		case 17:
+			return new N017(graph);
+		case 18:
+			return new N018(graph);
+		case 19:
+			return new N019(graph);
+		case 20:
+			return new N020(graph);
+		case 21:
+			return new N021(graph);
+		case 22:
+			return new N022(graph);
+		case 23:
+			return new N023(graph);
+		case 24:
+			return new N024(graph);
+		case 25:
+			return new N025(graph);
+		case 26:
+			return new N026(graph);
+		case 27:
+			return new N027(graph);
+		case 28:
+			return new N028(graph);
+		case 29:
+			return new N029(graph);
+		case 30:
+			return new N030(graph);
+		case 31:
+			return new N031(graph);
+		case 32:
+			return new N032(graph);
+		case 33:
+			return new N033(graph);
+		case 34:
+			return new N034(graph);
+		case 35:
+			return new N035(graph);
+		case 36:
+			return new N036(graph);
+		case 37:
+			return new N037(graph);
+		case 38:
+			return new N038(graph);
+		case 39:
+			return new N039(graph);
+		case 40:
+			return new N040(graph);
+		case 41:
+			return new N041(graph);
+		case 42:
+			return new N042(graph);
+		case 43:
+			return new N043(graph);
+		case 44:
+			return new N044(graph);
+		case 45:
+			return new N045(graph);
+		case 46:
+			return new N046(graph);
+		case 47:
+			return new N047(graph);
+		case 48:
+			return new N048(graph);
+		case 49:
+			return new N049(graph);
+		case 50:
+			return new N050(graph);
+		case 51:
+			return new N051(graph);
+		case 52:
+			return new N052(graph);
+		case 53:
+			return new N053(graph);
+		case 54:
+			return new N054(graph);
+		case 55:
+			return new N055(graph);
+		case 56:
+			return new N056(graph);
+		case 57:
+			return new N057(graph);
+		case 58:
+			return new N058(graph);
+		case 59:
+			return new N059(graph);
+		case 60:
+			return new N060(graph);
+		case 61:
+			return new N061(graph);
+		case 62:
+			return new N062(graph);
+		case 63:
+			return new N063(graph);
+		case 64:
+			return new N064(graph);
+		case 65:
+			return new N065(graph);
+		case 66:
+			return new N066(graph);
+		case 67:
+			return new N067(graph);
+		case 68:
+			return new N068(graph);
+		case 69:
+			return new N069(graph);
+		case 70:
+			return new N070(graph);
+		case 71:
+			return new N071(graph);
+		case 72:
+			return new N072(graph);
+		case 73:
+			return new N073(graph);
+		case 74:
+			return new N074(graph);
+		case 75:
+			return new N075(graph);
+		case 76:
+			return new N076(graph);
+		case 77:
+			return new N077(graph);
+		case 78:
+			return new N078(graph);
+		case 79:
+			return new N079(graph);
+		case 80:
+			return new N080(graph);
+		case 81:
+			return new N081(graph);
+		case 82:
+			return new N082(graph);
+		case 83:
+			return new N083(graph);
+		case 84:
+			return new N084(graph);
+		case 85:
+			return new N085(graph);
+		case 86:
+			return new N086(graph);
+		case 87:
+			return new N087(graph);
+		case 88:
+			return new N088(graph);
+		case 89:
+			return new N089(graph);
+		case 90:
+			return new N090(graph);
+		case 91:
+			return new N091(graph);
+		case 92:
+			return new N092(graph);
+		case 93:
+			return new N093(graph);
+		case 94:
+			return new N094(graph);
+		case 95:
+			return new N095(graph);
+		case 96:
+			return new N096(graph);
+		case 97:
+			return new N097(graph);
+		case 98:
+			return new N098(graph);
+		case 99:
+			return new N099(graph);
+		case 100:
+			return new N100(graph);
+		case 101:
+			return new N101(graph);
+		case 102:
+			return new N102(graph);
+		case 103:
+			return new N103(graph);
+		case 104:
+			return new N104(graph);
+		case 105:
+			return new N105(graph);
+		case 106:
+			return new N106(graph);
+		case 107:
+			return new N107(graph);
+		case 108:
+			return new N108(graph);
+		case 109:
+			return new N109(graph);
+		case 110:
+			return new N110(graph);
+		case 111:
+			return new N111(graph);
+		case 112:
+			return new N112(graph);
+		case 113:
+			return new N113(graph);
+		case 114:
+			return new N114(graph);
+		case 115:
+			return new N115(graph);
+		case 116:
+			return new N116(graph);
+		case 117:
+			return new N117(graph);
+		case 118:
+			return new N118(graph);
+		case 119:
+			return new N119(graph);
+		case 120:
+			return new N120(graph);
+		case 121:
+			return new N121(graph);
+		case 122:
+			return new N122(graph);
+		case 123:
+			return new N123(graph);
+		case 124:
+			return new N124(graph);
+		case 125:
+			return new N125(graph);
+		case 126:
+			return new N126(graph);
+		case 127:
+			return new N127(graph);
+		case 128:
+			return new N128(graph);
+		case 129:
+			return new N129(graph);
+		case 130:
+			return new N130(graph);
+		case 131:
+			return new N131(graph);
+		case 132:
+			return new N132(graph);
+		case 133:
+			return new N133(graph);
+		case 134:
+			return new N134(graph);
+		case 135:
+			return new N135(graph);
+		case 136:
+			return new N136(graph);
+		case 137:
+			return new N137(graph);
+		case 138:
+			return new N138(graph);
+		case 139:
+			return new N139(graph);
+		case 140:
+			return new N140(graph);
+		case 141:
+			return new N141(graph);
+		case 142:
+			return new N142(graph);
+		case 143:
+			return new N143(graph);
+		case 144:
+			return new N144(graph);
+		case 145:
+			return new N145(graph);
+		case 146:
+			return new N146(graph);
+		case 147:
+			return new N147(graph);
+		case 148:
+			return new N148(graph);
+		case 149:
+			return new N149(graph);
+		case 150:
+			return new N150(graph);
+		case 151:
+			return new N151(graph);
+		case 152:
+			return new N152(graph);
+		case 153:
+			return new N153(graph);
+		case 154:
+			return new N154(graph);
+		case 155:
+			return new N155(graph);
+		case 156:
+			return new N156(graph);
+		case 157:
+			return new N157(graph);
+		case 158:
+			return new N158(graph);
+		case 159:
+			return new N159(graph);
+		case 160:
+			return new N160(graph);
+		case 161:
+			return new N161(graph);
+		case 162:
+			return new N162(graph);
+		case 163:
+			return new N163(graph);
+		case 164:
+			return new N164(graph);
+		case 165:
+			return new N165(graph);
+		case 166:
+			return new N166(graph);
+		case 167:
+			return new N167(graph);
+		case 168:
+			return new N168(graph);
+		case 169:
+			return new N169(graph);
+		case 170:
+			return new N170(graph);
+		case 171:
+			return new N171(graph);
+		case 172:
+			return new N172(graph);
+		case 173:
+			return new N173(graph);
+		case 174:
+			return new N174(graph);
+		case 175:
+			return new N175(graph);
+		case 176:
+			return new N176(graph);
+		case 177:
+			return new N177(graph);
+		case 178:
+			return new N178(graph);
+		case 179:
+			return new N179(graph);
+		case 180:
+			return new N180(graph);
+		case 181:
+			return new N181(graph);
+		case 182:
+			return new N182(graph);
+		case 183:
+			return new N183(graph);
+		case 184:
+			return new N184(graph);
+		case 185:
+			return new N185(graph);
+		case 186:
+			return new N186(graph);
+		case 187:
+			return new N187(graph);
+		case 188:
+			return new N188(graph);
+		case 189:
+			return new N189(graph);
+		case 190:
+			return new N190(graph);
+		case 191:
+			return new N191(graph);
+		case 192:
+			return new N192(graph);
+		case 193:
+			return new N193(graph);
+		case 194:
+			return new N194(graph);
+		case 195:
+			return new N195(graph);
+		case 196:
+			return new N196(graph);
+		case 197:
+			return new N197(graph);
+		case 198:
+			return new N198(graph);
+		case 199:
+			return new N199(graph);
+		case 200:
+			return new N200(graph);
+		case 201:
+			return new N201(graph);
+		case 202:
+			return new N202(graph);
+		case 203:
+			return new N203(graph);
+		case 204:
+			return new N204(graph);
+		case 205:
+			return new N205(graph);
+		case 206:
+			return new N206(graph);
+		case 207:
+			return new N207(graph);
+		case 208:
+			return new N208(graph);
+		case 209:
+			return new N209(graph);
+		case 210:
+			return new N210(graph);
+		case 211:
+			return new N211(graph);
+		case 212:
+			return new N212(graph);
+		case 213:
+			return new N213(graph);
+		case 214:
+			return new N214(graph);
+		case 215:
+			return new N215(graph);
+		case 216:
+			return new N216(graph);
+		case 217:
+			return new N217(graph);
+		case 218:
+			return new N218(graph);
+		case 219:
+			return new N219(graph);
+		case 220:
+			return new N220(graph);
+		case 221:
+			return new N221(graph);
+		case 222:
+			return new N222(graph);
+		case 223:
+			return new N223(graph);
+		case 224:
+			return new N224(graph);
+		case 225:
+			return new N225(graph);
+		case 226:
+			return new N226(graph);
+		case 227:
+			return new N227(graph);
+		case 228:
+			return new N228(graph);
+		case 229:
+			return new N229(graph);
+		case 230:
+			return new N230(graph);
+		case 231:
+			return new N231(graph);
+		case 232:
+			return new N232(graph);
+		case 233:
+			return new N233(graph);
+		case 234:
+			return new N234(graph);
+		case 235:
+			return new N235(graph);
+		case 236:
+			return new N236(graph);
+		case 237:
+			return new N237(graph);
+		case 238:
+			return new N238(graph);
+		case 239:
+			return new N239(graph);
+		case 240:
+			return new N240(graph);
+		case 241:
+			return new N241(graph);
+		case 242:
+			return new N242(graph);
+		case 243:
+			return new N243(graph);
+		case 244:
+			return new N244(graph);
+		case 245:
+			return new N245(graph);
+		case 246:
+			return new N246(graph);
+		case 247:
+			return new N247(graph);
+		case 248:
+			return new N248(graph);
+		case 249:
+			return new N249(graph);
+		case 250:
+			return new N250(graph);
+		case 251:
+			return new N251(graph);
+		case 252:
+			return new N252(graph);
+		case 253:
+			return new N253(graph);
+		case 254:
+			return new N254(graph);
+		case 255:
+			return new N255(graph);
+		default:
+			throw new IllegalArgumentException("no node type " + index);
+		}
+	}
+
+	static final class N000 extends Node {
+		N000(SyntheticGraph graph) {
+			super(graph, 0);
+		}
+	}
+
+	static final class N001 extends Node {
+		N001(SyntheticGraph graph) {
+			super(graph, 1);
+		}
+	}
+
+	static final class N002 extends Node {
+		N002(SyntheticGraph graph) {
+			super(graph, 2);
+		}
+	}
+
+	static final class N003 extends Node {
+		N003(SyntheticGraph graph) {
+			super(graph, 3);
+		}
+	}
+
+	static final class N004 extends Node {
+		N004(SyntheticGraph graph) {
+			super(graph, 4);
+		}
+	}
+
+	static final class N005 extends Node {
+		N005(SyntheticGraph graph) {
+			super(graph, 5);
+		}
+	}
+
+	static final class N006 extends Node {
+		N006(SyntheticGraph graph) {
+			super(graph, 6);
+		}
+	}
+
+	static final class N007 extends Node {
+		N007(SyntheticGraph graph) {
+			super(graph, 7);
+		}
+	}
+
+	static final class N008 extends Node {
+		N008(SyntheticGraph graph) {
+			super(graph, 8);
+		}
+	}
+
+	static final class N009 extends Node {
+		N009(SyntheticGraph graph) {
+			super(graph, 9);
+		}
+	}
+
+	static final class N010 extends Node {
+		N010(SyntheticGraph graph) {
+			super(graph, 10);
+		}
+	}
+
+	static final class N011 extends Node {
+		N011(SyntheticGraph graph) {
+			super(graph, 11);
+		}
+	}
+
+	static final class N012 extends Node {
+		N012(SyntheticGraph graph) {
+			super(graph, 12);
+		}
+	}
+
+	static final class N013 extends Node {
+		N013(SyntheticGraph graph) {
+			super(graph, 13);
+		}
+	}
+
+	static final class N014 extends Node {
+		N014(SyntheticGraph graph) {
+			super(graph, 14);
+		}
+	}
+
+	static final class N015 extends Node {
+		N015(SyntheticGraph graph) {
+			super(graph, 15);
+		}
+	}
+
+	static final class N016 extends Node {
+		N016(SyntheticGraph graph) {
+			super(graph, 16);
+		}
+	}
+
+	static final class N017 extends Node {
+		N017(SyntheticGraph graph) {
+			super(graph, 17);
+		}
+	}
+
+	static final class N018 extends Node {
+		N018(SyntheticGraph graph) {
+			super(graph, 18);
+		}
+	}
+
+	static final class N019 extends Node {
+		N019(SyntheticGraph graph) {
+			super(graph, 19);
+		}
+	}
+
+	static final class N020 extends Node {
+		N020(SyntheticGraph graph) {
+			super(graph, 20);
+		}
+	}
+
+	static final class N021 extends Node {
+		N021(SyntheticGraph graph) {
+			super(graph, 21);
+		}
+	}
+
+	static final class N022 extends Node {
+		N022(SyntheticGraph graph) {
+			super(graph, 22);
+		}
+	}
+
+	static final class N023 extends Node {
+		N023(SyntheticGraph graph) {
+			super(graph, 23);
+		}
+	}
+
+	static final class N024 extends Node {
+		N024(SyntheticGraph graph) {
+			super(graph, 24);
+		}
+	}
+
+	static final class N025 extends Node {
+		N025(SyntheticGraph graph) {
+			super(graph, 25);
+		}
+	}
+
+	static final class N026 extends Node {
+		N026(SyntheticGraph graph) {
+			super(graph, 26);
+		}
+	}
+
+	static final class N027 extends Node {
+		N027(SyntheticGraph graph) {
+			super(graph, 27);
+		}
+	}
+
+	static final class N028 extends Node {
+		N028(SyntheticGraph graph) {
+			super(graph, 28);
+		}
+	}
+
+	static final class N029 extends Node {
+		N029(SyntheticGraph graph) {
+			super(graph, 29);
+		}
+	}
+
+	static final class N030 extends Node {
+		N030(SyntheticGraph graph) {
+			super(graph, 30);
+		}
+	}
+
+	static final class N031 extends Node {
+		N031(SyntheticGraph graph) {
+			super(graph, 31);
+		}
+	}
+
+	static final class N032 extends Node {
+		N032(SyntheticGraph graph) {
+			super(graph, 32);
+		}
+	}
+
+	static final class N033 extends Node {
+		N033(SyntheticGraph graph) {
+			super(graph, 33);
+		}
+	}
+
+	static final class N034 extends Node {
+		N034(SyntheticGraph graph) {
+			super(graph, 34);
+		}
+	}
+
+	static final class N035 extends Node {
+		N035(SyntheticGraph graph) {
+			super(graph, 35);
+		}
+	}
+
+	static final class N036 extends Node {
+		N036(SyntheticGraph graph) {
+			super(graph, 36);
+		}
+	}
+
+	static final class N037 extends Node {
+		N037(SyntheticGraph graph) {
+			super(graph, 37);
+		}
+	}
+
+	static final class N038 extends Node {
+		N038(SyntheticGraph graph) {
+			super(graph, 38);
+		}
+	}
+
+	static final class N039 extends Node {
+		N039(SyntheticGraph graph) {
+			super(graph, 39);
+		}
+	}
+
+	static final class N040 extends Node {
+		N040(SyntheticGraph graph) {
+			super(graph, 40);
+		}
+	}
+
+	static final class N041 extends Node {
+		N041(SyntheticGraph graph) {
+			super(graph, 41);
+		}
+	}
+
+	static final class N042 extends Node {
+		N042(SyntheticGraph graph) {
+			super(graph, 42);
+		}
+	}
+
+	static final class N043 extends Node {
+		N043(SyntheticGraph graph) {
+			super(graph, 43);
+		}
+	}
+
+	static final class N044 extends Node {
+		N044(SyntheticGraph graph) {
+			super(graph, 44);
+		}
+	}
+
+	static final class N045 extends Node {
+		N045(SyntheticGraph graph) {
+			super(graph, 45);
+		}
+	}
+
+	static final class N046 extends Node {
+		N046(SyntheticGraph graph) {
+			super(graph, 46);
+		}
+	}
+
+	static final class N047 extends Node {
+		N047(SyntheticGraph graph) {
+			super(graph, 47);
+		}
+	}
+
+	static final class N048 extends Node {
+		N048(SyntheticGraph graph) {
+			super(graph, 48);
+		}
+	}
+
+	static final class N049 extends Node {
+		N049(SyntheticGraph graph) {
+			super(graph, 49);
+		}
+	}
+
+	static final class N050 extends Node {
+		N050(SyntheticGraph graph) {
+			super(graph, 50);
+		}
+	}
+
+	static final class N051 extends Node {
+		N051(SyntheticGraph graph) {
+			super(graph, 51);
+		}
+	}
+
+	static final class N052 extends Node {
+		N052(SyntheticGraph graph) {
+			super(graph, 52);
+		}
+	}
+
+	static final class N053 extends Node {
+		N053(SyntheticGraph graph) {
+			super(graph, 53);
+		}
+	}
+
+	static final class N054 extends Node {
+		N054(SyntheticGraph graph) {
+			super(graph, 54);
+		}
+	}
+
+	static final class N055 extends Node {
+		N055(SyntheticGraph graph) {
+			super(graph, 55);
+		}
+	}
+
+	static final class N056 extends Node {
+		N056(SyntheticGraph graph) {
+			super(graph, 56);
+		}
+	}
+
+	static final class N057 extends Node {
+		N057(SyntheticGraph graph) {
+			super(graph, 57);
+		}
+	}
+
+	static final class N058 extends Node {
+		N058(SyntheticGraph graph) {
+			super(graph, 58);
+		}
+	}
+
+	static final class N059 extends Node {
+		N059(SyntheticGraph graph) {
+			super(graph, 59);
+		}
+	}
+
+	static final class N060 extends Node {
+		N060(SyntheticGraph graph) {
+			super(graph, 60);
+		}
+	}
+
+	static final class N061 extends Node {
+		N061(SyntheticGraph graph) {
+			super(graph, 61);
+		}
+	}
+
+	static final class N062 extends Node {
+		N062(SyntheticGraph graph) {
+			super(graph, 62);
+		}
+	}
+
+	static final class N063 extends Node {
+		N063(SyntheticGraph graph) {
+			super(graph, 63);
+		}
+	}
+
+	static final class N064 extends Node {
+		N064(SyntheticGraph graph) {
+			super(graph, 64);
+		}
+	}
+
+	static final class N065 extends Node {
+		N065(SyntheticGraph graph) {
+			super(graph, 65);
+		}
+	}
+
+	static final class N066 extends Node {
+		N066(SyntheticGraph graph) {
+			super(graph, 66);
+		}
+	}
+
+	static final class N067 extends Node {
+		N067(SyntheticGraph graph) {
+			super(graph, 67);
+		}
+	}
+
+	static final class N068 extends Node {
+		N068(SyntheticGraph graph) {
+			super(graph, 68);
+		}
+	}
+
+	static final class N069 extends Node {
+		N069(SyntheticGraph graph) {
+			super(graph, 69);
+		}
+	}
+
+	static final class N070 extends Node {
+		N070(SyntheticGraph graph) {
+			super(graph, 70);
+		}
+	}
+
+	static final class N071 extends Node {
+		N071(SyntheticGraph graph) {
+			super(graph, 71);
+		}
+	}
+
+	static final class N072 extends Node {
+		N072(SyntheticGraph graph) {
+			super(graph, 72);
+		}
+	}
+
+	static final class N073 extends Node {
+		N073(SyntheticGraph graph) {
+			super(graph, 73);
+		}
+	}
+
+	static final class N074 extends Node {
+		N074(SyntheticGraph graph) {
+			super(graph, 74);
+		}
+	}
+
+	static final class N075 extends Node {
+		N075(SyntheticGraph graph) {
+			super(graph, 75);
+		}
+	}
+
+	static final class N076 extends Node {
+		N076(SyntheticGraph graph) {
+			super(graph, 76);
+		}
+	}
+
+	static final class N077 extends Node {
+		N077(SyntheticGraph graph) {
+			super(graph, 77);
+		}
+	}
+
+	static final class N078 extends Node {
+		N078(SyntheticGraph graph) {
+			super(graph, 78);
+		}
+	}
+
+	static final class N079 extends Node {
+		N079(SyntheticGraph graph) {
+			super(graph, 79);
+		}
+	}
+
+	static final class N080 extends Node {
+		N080(SyntheticGraph graph) {
+			super(graph, 80);
+		}
+	}
+
+	static final class N081 extends Node {
+		N081(SyntheticGraph graph) {
+			super(graph, 81);
+		}
+	}
+
+	static final class N082 extends Node {
+		N082(SyntheticGraph graph) {
+			super(graph, 82);
+		}
+	}
+
+	static final class N083 extends Node {
+		N083(SyntheticGraph graph) {
+			super(graph, 83);
+		}
+	}
+
+	static final class N084 extends Node {
+		N084(SyntheticGraph graph) {
+			super(graph, 84);
+		}
+	}
+
+	static final class N085 extends Node {
+		N085(SyntheticGraph graph) {
+			super(graph, 85);
+		}
+	}
+
+	static final class N086 extends Node {
+		N086(SyntheticGraph graph) {
+			super(graph, 86);
+		}
+	}
+
+	static final class N087 extends Node {
+		N087(SyntheticGraph graph) {
+			super(graph, 87);
+		}
+	}
+
+	static final class N088 extends Node {
+		N088(SyntheticGraph graph) {
+			super(graph, 88);
+		}
+	}
+
+	static final class N089 extends Node {
+		N089(SyntheticGraph graph) {
+			super(graph, 89);
+		}
+	}
+
+	static final class N090 extends Node {
+		N090(SyntheticGraph graph) {
+			super(graph, 90);
+		}
+	}
+
+	static final class N091 extends Node {
+		N091(SyntheticGraph graph) {
+			super(graph, 91);
+		}
+	}
+
+	static final class N092 extends Node {
+		N092(SyntheticGraph graph) {
+			super(graph, 92);
+		}
+	}
+
+	static final class N093 extends Node {
+		N093(SyntheticGraph graph) {
+			super(graph, 93);
+		}
+	}
+
+	static final class N094 extends Node {
+		N094(SyntheticGraph graph) {
+			super(graph, 94);
+		}
+	}
+
+	static final class N095 extends Node {
+		N095(SyntheticGraph graph) {
+			super(graph, 95);
+		}
+	}
+
+	static final class N096 extends Node {
+		N096(SyntheticGraph graph) {
+			super(graph, 96);
+		}
+	}
+
+	static final class N097 extends Node {
+		N097(SyntheticGraph graph) {
+			super(graph, 97);
+		}
+	}
+
+	static final class N098 extends Node {
+		N098(SyntheticGraph graph) {
+			super(graph, 98);
+		}
+	}
+
+	static final class N099 extends Node {
+		N099(SyntheticGraph graph) {
+			super(graph, 99);
+		}
+	}
+
+	static final class N100 extends Node {
+		N100(SyntheticGraph graph) {
+			super(graph, 100);
+		}
+	}
+
+	static final class N101 extends Node {
+		N101(SyntheticGraph graph) {
+			super(graph, 101);
+		}
+	}
+
+	static final class N102 extends Node {
+		N102(SyntheticGraph graph) {
+			super(graph, 102);
+		}
+	}
+
+	static final class N103 extends Node {
+		N103(SyntheticGraph graph) {
+			super(graph, 103);
+		}
+	}
+
+	static final class N104 extends Node {
+		N104(SyntheticGraph graph) {
+			super(graph, 104);
+		}
+	}
+
+	static final class N105 extends Node {
+		N105(SyntheticGraph graph) {
+			super(graph, 105);
+		}
+	}
+
+	static final class N106 extends Node {
+		N106(SyntheticGraph graph) {
+			super(graph, 106);
+		}
+	}
+
+	static final class N107 extends Node {
+		N107(SyntheticGraph graph) {
+			super(graph, 107);
+		}
+	}
+
+	static final class N108 extends Node {
+		N108(SyntheticGraph graph) {
+			super(graph, 108);
+		}
+	}
+
+	static final class N109 extends Node {
+		N109(SyntheticGraph graph) {
+			super(graph, 109);
+		}
+	}
+
+	static final class N110 extends Node {
+		N110(SyntheticGraph graph) {
+			super(graph, 110);
+		}
+	}
+
+	static final class N111 extends Node {
+		N111(SyntheticGraph graph) {
+			super(graph, 111);
+		}
+	}
+
+	static final class N112 extends Node {
+		N112(SyntheticGraph graph) {
+			super(graph, 112);
+		}
+	}
+
+	static final class N113 extends Node {
+		N113(SyntheticGraph graph) {
+			super(graph, 113);
+		}
+	}
+
+	static final class N114 extends Node {
+		N114(SyntheticGraph graph) {
+			super(graph, 114);
+		}
+	}
+
+	static final class N115 extends Node {
+		N115(SyntheticGraph graph) {
+			super(graph, 115);
+		}
+	}
+
+	static final class N116 extends Node {
+		N116(SyntheticGraph graph) {
+			super(graph, 116);
+		}
+	}
+
+	static final class N117 extends Node {
+		N117(SyntheticGraph graph) {
+			super(graph, 117);
+		}
+	}
+
+	static final class N118 extends Node {
+		N118(SyntheticGraph graph) {
+			super(graph, 118);
+		}
+	}
+
+	static final class N119 extends Node {
+		N119(SyntheticGraph graph) {
+			super(graph, 119);
+		}
+	}
+
+	static final class N120 extends Node {
+		N120(SyntheticGraph graph) {
+			super(graph, 120);
+		}
+	}
+
+	static final class N121 extends Node {
+		N121(SyntheticGraph graph) {
+			super(graph, 121);
+		}
+	}
+
+	static final class N122 extends Node {
+		N122(SyntheticGraph graph) {
+			super(graph, 122);
+		}
+	}
+
+	static final class N123 extends Node {
+		N123(SyntheticGraph graph) {
+			super(graph, 123);
+		}
+	}
+
+	static final class N124 extends Node {
+		N124(SyntheticGraph graph) {
+			super(graph, 124);
+		}
+	}
+
+	static final class N125 extends Node {
+		N125(SyntheticGraph graph) {
+			super(graph, 125);
+		}
+	}
+
+	static final class N126 extends Node {
+		N126(SyntheticGraph graph) {
+			super(graph, 126);
+		}
+	}
+
+	static final class N127 extends Node {
+		N127(SyntheticGraph graph) {
+			super(graph, 127);
+		}
+	}
+
+	static final class N128 extends Node {
+		N128(SyntheticGraph graph) {
+			super(graph, 128);
+		}
+	}
+
+	static final class N129 extends Node {
+		N129(SyntheticGraph graph) {
+			super(graph, 129);
+		}
+	}
+
+	static final class N130 extends Node {
+		N130(SyntheticGraph graph) {
+			super(graph, 130);
+		}
+	}
+
+	static final class N131 extends Node {
+		N131(SyntheticGraph graph) {
+			super(graph, 131);
+		}
+	}
+
+	static final class N132 extends Node {
+		N132(SyntheticGraph graph) {
+			super(graph, 132);
+		}
+	}
+
+	static final class N133 extends Node {
+		N133(SyntheticGraph graph) {
+			super(graph, 133);
+		}
+	}
+
+	static final class N134 extends Node {
+		N134(SyntheticGraph graph) {
+			super(graph, 134);
+		}
+	}
+
+	static final class N135 extends Node {
+		N135(SyntheticGraph graph) {
+			super(graph, 135);
+		}
+	}
+
+	static final class N136 extends Node {
+		N136(SyntheticGraph graph) {
+			super(graph, 136);
+		}
+	}
+
+	static final class N137 extends Node {
+		N137(SyntheticGraph graph) {
+			super(graph, 137);
+		}
+	}
+
+	static final class N138 extends Node {
+		N138(SyntheticGraph graph) {
+			super(graph, 138);
+		}
+	}
+
+	static final class N139 extends Node {
+		N139(SyntheticGraph graph) {
+			super(graph, 139);
+		}
+	}
+
+	static final class N140 extends Node {
+		N140(SyntheticGraph graph) {
+			super(graph, 140);
+		}
+	}
+
+	static final class N141 extends Node {
+		N141(SyntheticGraph graph) {
+			super(graph, 141);
+		}
+	}
+
+	static final class N142 extends Node {
+		N142(SyntheticGraph graph) {
+			super(graph, 142);
+		}
+	}
+
+	static final class N143 extends Node {
+		N143(SyntheticGraph graph) {
+			super(graph, 143);
+		}
+	}
+
+	static final class N144 extends Node {
+		N144(SyntheticGraph graph) {
+			super(graph, 144);
+		}
+	}
+
+	static final class N145 extends Node {
+		N145(SyntheticGraph graph) {
+			super(graph, 145);
+		}
+	}
+
+	static final class N146 extends Node {
+		N146(SyntheticGraph graph) {
+			super(graph, 146);
+		}
+	}
+
+	static final class N147 extends Node {
+		N147(SyntheticGraph graph) {
+			super(graph, 147);
+		}
+	}
+
+	static final class N148 extends Node {
+		N148(SyntheticGraph graph) {
+			super(graph, 148);
+		}
+	}
+
+	static final class N149 extends Node {
+		N149(SyntheticGraph graph) {
+			super(graph, 149);
+		}
+	}
+
+	static final class N150 extends Node {
+		N150(SyntheticGraph graph) {
+			super(graph, 150);
+		}
+	}
+
+	static final class N151 extends Node {
+		N151(SyntheticGraph graph) {
+			super(graph, 151);
+		}
+	}
+
+	static final class N152 extends Node {
+		N152(SyntheticGraph graph) {
+			super(graph, 152);
+		}
+	}
+
+	static final class N153 extends Node {
+		N153(SyntheticGraph graph) {
+			super(graph, 153);
+		}
+	}
+
+	static final class N154 extends Node {
+		N154(SyntheticGraph graph) {
+			super(graph, 154);
+		}
+	}
+
+	static final class N155 extends Node {
+		N155(SyntheticGraph graph) {
+			super(graph, 155);
+		}
+	}
+
+	static final class N156 extends Node {
+		N156(SyntheticGraph graph) {
+			super(graph, 156);
+		}
+	}
+
+	static final class N157 extends Node {
+		N157(SyntheticGraph graph) {
+			super(graph, 157);
+		}
+	}
+
+	static final class N158 extends Node {
+		N158(SyntheticGraph graph) {
+			super(graph, 158);
+		}
+	}
+
+	static final class N159 extends Node {
+		N159(SyntheticGraph graph) {
+			super(graph, 159);
+		}
+	}
+
+	static final class N160 extends Node {
+		N160(SyntheticGraph graph) {
+			super(graph, 160);
+		}
+	}
+
+	static final class N161 extends Node {
+		N161(SyntheticGraph graph) {
+			super(graph, 161);
+		}
+	}
+
+	static final class N162 extends Node {
+		N162(SyntheticGraph graph) {
+			super(graph, 162);
+		}
+	}
+
+	static final class N163 extends Node {
+		N163(SyntheticGraph graph) {
+			super(graph, 163);
+		}
+	}
+
+	static final class N164 extends Node {
+		N164(SyntheticGraph graph) {
+			super(graph, 164);
+		}
+	}
+
+	static final class N165 extends Node {
+		N165(SyntheticGraph graph) {
+			super(graph, 165);
+		}
+	}
+
+	static final class N166 extends Node {
+		N166(SyntheticGraph graph) {
+			super(graph, 166);
+		}
+	}
+
+	static final class N167 extends Node {
+		N167(SyntheticGraph graph) {
+			super(graph, 167);
+		}
+	}
+
+	static final class N168 extends Node {
+		N168(SyntheticGraph graph) {
+			super(graph, 168);
+		}
+	}
+
+	static final class N169 extends Node {
+		N169(SyntheticGraph graph) {
+			super(graph, 169);
+		}
+	}
+
+	static final class N170 extends Node {
+		N170(SyntheticGraph graph) {
+			super(graph, 170);
+		}
+	}
+
+	static final class N171 extends Node {
+		N171(SyntheticGraph graph) {
+			super(graph, 171);
+		}
+	}
+
+	static final class N172 extends Node {
+		N172(SyntheticGraph graph) {
+			super(graph, 172);
+		}
+	}
+
+	static final class N173 extends Node {
+		N173(SyntheticGraph graph) {
+			super(graph, 173);
+		}
+	}
+
+	static final class N174 extends Node {
+		N174(SyntheticGraph graph) {
+			super(graph, 174);
+		}
+	}
+
+	static final class N175 extends Node {
+		N175(SyntheticGraph graph) {
+			super(graph, 175);
+		}
+	}
+
+	static final class N176 extends Node {
+		N176(SyntheticGraph graph) {
+			super(graph, 176);
+		}
+	}
+
+	static final class N177 extends Node {
+		N177(SyntheticGraph graph) {
+			super(graph, 177);
+		}
+	}
+
+	static final class N178 extends Node {
+		N178(SyntheticGraph graph) {
+			super(graph, 178);
+		}
+	}
+
+	static final class N179 extends Node {
+		N179(SyntheticGraph graph) {
+			super(graph, 179);
+		}
+	}
+
+	static final class N180 extends Node {
+		N180(SyntheticGraph graph) {
+			super(graph, 180);
+		}
+	}
+
+	static final class N181 extends Node {
+		N181(SyntheticGraph graph) {
+			super(graph, 181);
+		}
+	}
+
+	static final class N182 extends Node {
+		N182(SyntheticGraph graph) {
+			super(graph, 182);
+		}
+	}
+
+	static final class N183 extends Node {
+		N183(SyntheticGraph graph) {
+			super(graph, 183);
+		}
+	}
+
+	static final class N184 extends Node {
+		N184(SyntheticGraph graph) {
+			super(graph, 184);
+		}
+	}
+
+	static final class N185 extends Node {
+		N185(SyntheticGraph graph) {
+			super(graph, 185);
+		}
+	}
+
+	static final class N186 extends Node {
+		N186(SyntheticGraph graph) {
+			super(graph, 186);
+		}
+	}
+
+	static final class N187 extends Node {
+		N187(SyntheticGraph graph) {
+			super(graph, 187);
+		}
+	}
+
+	static final class N188 extends Node {
+		N188(SyntheticGraph graph) {
+			super(graph, 188);
+		}
+	}
+
+	static final class N189 extends Node {
+		N189(SyntheticGraph graph) {
+			super(graph, 189);
+		}
+	}
+
+	static final class N190 extends Node {
+		N190(SyntheticGraph graph) {
+			super(graph, 190);
+		}
+	}
+
+	static final class N191 extends Node {
+		N191(SyntheticGraph graph) {
+			super(graph, 191);
+		}
+	}
+
+	static final class N192 extends Node {
+		N192(SyntheticGraph graph) {
+			super(graph, 192);
+		}
+	}
+
+	static final class N193 extends Node {
+		N193(SyntheticGraph graph) {
+			super(graph, 193);
+		}
+	}
+
+	static final class N194 extends Node {
+		N194(SyntheticGraph graph) {
+			super(graph, 194);
+		}
+	}
+
+	static final class N195 extends Node {
+		N195(SyntheticGraph graph) {
+			super(graph, 195);
+		}
+	}
+
+	static final class N196 extends Node {
+		N196(SyntheticGraph graph) {
+			super(graph, 196);
+		}
+	}
+
+	static final class N197 extends Node {
+		N197(SyntheticGraph graph) {
+			super(graph, 197);
+		}
+	}
+
+	static final class N198 extends Node {
+		N198(SyntheticGraph graph) {
+			super(graph, 198);
+		}
+	}
+
+	static final class N199 extends Node {
+		N199(SyntheticGraph graph) {
+			super(graph, 199);
+		}
+	}
+
+	static final class N200 extends Node {
+		N200(SyntheticGraph graph) {
+			super(graph, 200);
+		}
+	}
+
+	static final class N201 extends Node {
+		N201(SyntheticGraph graph) {
+			super(graph, 201);
+		}
+	}
+
+	static final class N202 extends Node {
+		N202(SyntheticGraph graph) {
+			super(graph, 202);
+		}
+	}
+
+	static final class N203 extends Node {
+		N203(SyntheticGraph graph) {
+			super(graph, 203);
+		}
+	}
+
+	static final class N204 extends Node {
+		N204(SyntheticGraph graph) {
+			super(graph, 204);
+		}
+	}
+
+	static final class N205 extends Node {
+		N205(SyntheticGraph graph) {
+			super(graph, 205);
+		}
+	}
+
+	static final class N206 extends Node {
+		N206(SyntheticGraph graph) {
+			super(graph, 206);
+		}
+	}
+
+	static final class N207 extends Node {
+		N207(SyntheticGraph graph) {
+			super(graph, 207);
+		}
+	}
+
+	static final class N208 extends Node {
+		N208(SyntheticGraph graph) {
+			super(graph, 208);
+		}
+	}
+
+	static final class N209 extends Node {
+		N209(SyntheticGraph graph) {
+			super(graph, 209);
+		}
+	}
+
+	static final class N210 extends Node {
+		N210(SyntheticGraph graph) {
+			super(graph, 210);
+		}
+	}
+
+	static final class N211 extends Node {
+		N211(SyntheticGraph graph) {
+			super(graph, 211);
+		}
+	}
+
+	static final class N212 extends Node {
+		N212(SyntheticGraph graph) {
+			super(graph, 212);
+		}
+	}
+
+	static final class N213 extends Node {
+		N213(SyntheticGraph graph) {
+			super(graph, 213);
+		}
+	}
+
+	static final class N214 extends Node {
+		N214(SyntheticGraph graph) {
+			super(graph, 214);
+		}
+	}
+
+	static final class N215 extends Node {
+		N215(SyntheticGraph graph) {
+			super(graph, 215);
+		}
+	}
+
+	static final class N216 extends Node {
+		N216(SyntheticGraph graph) {
+			super(graph, 216);
+		}
+	}
+
+	static final class N217 extends Node {
+		N217(SyntheticGraph graph) {
+			super(graph, 217);
+		}
+	}
+
+	static final class N218 extends Node {
+		N218(SyntheticGraph graph) {
+			super(graph, 218);
+		}
+	}
+
+	static final class N219 extends Node {
+		N219(SyntheticGraph graph) {
+			super(graph, 219);
+		}
+	}
+
+	static final class N220 extends Node {
+		N220(SyntheticGraph graph) {
+			super(graph, 220);
+		}
+	}
+
+	static final class N221 extends Node {
+		N221(SyntheticGraph graph) {
+			super(graph, 221);
+		}
+	}
+
+	static final class N222 extends Node {
+		N222(SyntheticGraph graph) {
+			super(graph, 222);
+		}
+	}
+
+	static final class N223 extends Node {
+		N223(SyntheticGraph graph) {
+			super(graph, 223);
+		}
+	}
+
+	static final class N224 extends Node {
+		N224(SyntheticGraph graph) {
+			super(graph, 224);
+		}
+	}
+
+	static final class N225 extends Node {
+		N225(SyntheticGraph graph) {
+			super(graph, 225);
+		}
+	}
+
+	static final class N226 extends Node {
+		N226(SyntheticGraph graph) {
+			super(graph, 226);
+		}
+	}
+
+	static final class N227 extends Node {
+		N227(SyntheticGraph graph) {
+			super(graph, 227);
+		}
+	}
+
+	static final class N228 extends Node {
+		N228(SyntheticGraph graph) {
+			super(graph, 228);
+		}
+	}
+
+	static final class N229 extends Node {
+		N229(SyntheticGraph graph) {
+			super(graph, 229);
+		}
+	}
+
+	static final class N230 extends Node {
+		N230(SyntheticGraph graph) {
+			super(graph, 230);
+		}
+	}
+
+	static final class N231 extends Node {
+		N231(SyntheticGraph graph) {
+			super(graph, 231);
+		}
+	}
+
+	static final class N232 extends Node {
+		N232(SyntheticGraph graph) {
+			super(graph, 232);
+		}
+	}
+
+	static final class N233 extends Node {
+		N233(SyntheticGraph graph) {
+			super(graph, 233);
+		}
+	}
+
+	static final class N234 extends Node {
+		N234(SyntheticGraph graph) {
+			super(graph, 234);
+		}
+	}
+
+	static final class N235 extends Node {
+		N235(SyntheticGraph graph) {
+			super(graph, 235);
+		}
+	}
+
+	static final class N236 extends Node {
+		N236(SyntheticGraph graph) {
+			super(graph, 236);
+		}
+	}
+
+	static final class N237 extends Node {
+		N237(SyntheticGraph graph) {
+			super(graph, 237);
+		}
+	}
+
+	static final class N238 extends Node {
+		N238(SyntheticGraph graph) {
+			super(graph, 238);
+		}
+	}
+
+	static final class N239 extends Node {
+		N239(SyntheticGraph graph) {
+			super(graph, 239);
+		}
+	}
+
+	static final class N240 extends Node {
+		N240(SyntheticGraph graph) {
+			super(graph, 240);
+		}
+	}
+
+	static final class N241 extends Node {
+		N241(SyntheticGraph graph) {
+			super(graph, 241);
+		}
+	}
+
+	static final class N242 extends Node {
+		N242(SyntheticGraph graph) {
+			super(graph, 242);
+		}
+	}
+
+	static final class N243 extends Node {
+		N243(SyntheticGraph graph) {
+			super(graph, 243);
+		}
+	}
+
+	static final class N244 extends Node {
+		N244(SyntheticGraph graph) {
+			super(graph, 244);
+		}
+	}
+
+	static final class N245 extends Node {
+		N245(SyntheticGraph graph) {
+			super(graph, 245);
+		}
+	}
+
+	static final class N246 extends Node {
+		N246(SyntheticGraph graph) {
+			super(graph, 246);
+		}
+	}
+
+	static final class N247 extends Node {
+		N247(SyntheticGraph graph) {
+			super(graph, 247);
+		}
+	}
+
+	static final class N248 extends Node {
+		N248(SyntheticGraph graph) {
+			super(graph, 248);
+		}
+	}
+
+	static final class N249 extends Node {
+		N249(SyntheticGraph graph) {
+			super(graph, 249);
+		}
+	}
+
+	static final class N250 extends Node {
+		N250(SyntheticGraph graph) {
+			super(graph, 250);
+		}
+	}
+
+	static final class N251 extends Node {
+		N251(SyntheticGraph graph) {
+			super(graph, 251);
+		}
+	}
+
+	static final class N252 extends Node {
+		N252(SyntheticGraph graph) {
+			super(graph, 252);
+		}
+	}
+
+	static final class N253 extends Node {
+		N253(SyntheticGraph graph) {
+			super(graph, 253);
+		}
+	}
+
+	static final class N254 extends Node {
+		N254(SyntheticGraph graph) {
+			super(graph, 254);
+		}
+	}
+
+	static final class N255 extends Node {
+		N255(SyntheticGraph graph) {
+			super(graph, 255);
+		}
+	}
+}
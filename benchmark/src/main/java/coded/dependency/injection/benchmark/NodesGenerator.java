@@ -0,0 +1,75 @@
+package coded.dependency.injection.benchmark;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes {@link Nodes}, run from the benchmark directory:
+ *
+ * <pre>
+ * java -cp target/classes coded.dependency.injection.benchmark.NodesGenerator [count]
+ * </pre>
+ */
+public final class NodesGenerator {
+
+	private static final Path SOURCE = Paths.get("src/main/java/coded/dependency/injection/benchmark/Nodes.java");
+
+	private NodesGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(SOURCE, StandardCharsets.UTF_8))) {
+			generate(count, out);
+		}
+	}
+
+	static void generate(int count, PrintWriter out) {
+		out.print("package coded.dependency.injection.benchmark;\n\n");
+		out.print("/**\n");
+		out.print(" * The distinct bean types available to {@link SyntheticGraph}, the injector\n");
+		out.print(" * identifies beans by their class. Generated by {@link NodesGenerator}, do not\n");
+		out.print(" * edit.\n");
+		out.print(" *\n");
+		out.print(" */\n");
+		out.print("@SuppressWarnings(\"unchecked\")\n");
+		out.print("final class Nodes {\n\n");
+		out.print("\tstatic final Class<? extends Node>[] TYPES = new Class[] { //\n");
+		for (int i = 0; i < count; i += 8) {
+			StringBuilder line = new StringBuilder("\t\t\t");
+			for (int j = i; j < Math.min(i + 8, count); j++) {
+				line.append(name(j))
+					.append(".class")
+					.append(j < count - 1 ? ", " : "");
+			}
+			out.print(line);
+			out.print(i + 8 < count ? "//\n" : "\n");
+		}
+		out.print("\t};\n\n");
+		out.print("\tprivate Nodes() {\n\t}\n\n");
+		out.print("\tstatic Node create(int index, SyntheticGraph graph) {\n");
+		out.print("\t\tswitch (index) {\n");
+		for (int i = 0; i < count; i++) {
+			out.print("\t\tcase " + i + ":\n");
+			out.print("\t\t\treturn new " + name(i) + "(graph);\n");
+		}
+		out.print("\t\tdefault:\n");
+		out.print("\t\t\tthrow new IllegalArgumentException(\"no node type \" + index);\n");
+		out.print("\t\t}\n\t}\n");
+		for (int i = 0; i < count; i++) {
+			out.print("\n\tstatic final class " + name(i) + " extends Node {\n");
+			out.print("\t\t" + name(i) + "(SyntheticGraph graph) {\n");
+			out.print("\t\t\tsuper(graph, " + i + ");\n");
+			out.print("\t\t}\n\t}\n");
+		}
+		out.print("}\n");
+	}
+
+	private static String name(int index) {
+		return String.format("N%03d", index);
+	}
+}
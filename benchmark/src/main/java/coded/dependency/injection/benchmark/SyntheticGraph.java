@@ -0,0 +1,172 @@
+package coded.dependency.injection.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import coded.dependency.injection.Injector;
+import coded.dependency.injection.InjectorTemplate;
+
+/**
+ * Layered bean graph with {@code depth} levels of {@code width} beans each.
+ * Every bean of a level depends on {@code fanIn} beans of the next level, with
+ * that every bean below the roots has {@code fanIn} dependents. The beans of
+ * level 0 are the roots passed to {@link Injector#makeBeans(Class)}.
+ * 
+ * <pre>
+ * width=3, depth=2, fanIn=2
+ * 
+ * N000 -> N003, N004
+ * N001 -> N004, N005
+ * N002 -> N005, N003
+ * </pre>
+ *
+ */
+public class SyntheticGraph {
+
+	private final int width;
+	private final int depth;
+	private final int fanIn;
+	private final Class<? extends Node>[][] dependencies;
+	private int stateSize;
+	private boolean deepHashCode;
+
+	@SuppressWarnings("unchecked")
+	public SyntheticGraph(int width, int depth, int fanIn) {
+		if (width < 1 || depth < 1 || fanIn < 0) {
+			throw new IllegalArgumentException(
+					String.format("invalid graph width=%d, depth=%d, fanIn=%d", width, depth, fanIn));
+		}
+		if (width * depth > Nodes.TYPES.length) {
+			throw new IllegalArgumentException(String.format("graph of %d beans exceeds the %d available node types",
+					width * depth, Nodes.TYPES.length));
+		}
+		this.width = width;
+		this.depth = depth;
+		this.fanIn = Math.min(fanIn, width);
+		this.dependencies = new Class[width * depth][];
+		for (int level = 0; level < depth; level++) {
+			for (int i = 0; i < width; i++) {
+				int index = level * width + i;
+				if (level == depth - 1) {
+					dependencies[index] = new Class[0];
+				} else {
+					dependencies[index] = new Class[this.fanIn];
+					for (int k = 0; k < this.fanIn; k++) {
+						dependencies[index][k] = Nodes.TYPES[(level + 1) * width + (i + k) % width];
+					}
+				}
+			}
+		}
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public int getFanIn() {
+		return fanIn;
+	}
+
+	/**
+	 * @param stateSize    number of longs held by every node
+	 * @param deepHashCode true if {@link Node#hashCode()} hashes the state, false
+	 *                     for the identity hash code
+	 * @return this graph
+	 */
+	public SyntheticGraph withState(int stateSize, boolean deepHashCode) {
+		this.stateSize = stateSize;
+		this.deepHashCode = deepHashCode;
+		return this;
+	}
+
+	public int getStateSize() {
+		return stateSize;
+	}
+
+	public boolean isDeepHashCode() {
+		return deepHashCode;
+	}
+
+	public int getBeanCount() {
+		return width * depth;
+	}
+
+	public Class<? extends Node> typeOf(int index) {
+		return Nodes.TYPES[index];
+	}
+
+	Class<? extends Node>[] dependenciesOf(int index) {
+		return dependencies[index];
+	}
+
+	public List<Class<? extends Node>> getRoots() {
+		List<Class<? extends Node>> roots = new ArrayList<>(width);
+		for (int i = 0; i < width; i++) {
+			roots.add(Nodes.TYPES[i]);
+		}
+		return roots;
+	}
+
+	/**
+	 * Defines the construction suppliers of all beans of this graph, no reflection
+	 * is used for bean creation.
+	 * 
+	 * @param injector
+	 * @return the injector
+	 */
+	@SuppressWarnings("unchecked")
+	public Injector defineConstructions(Injector injector) {
+		for (int i = 0; i < getBeanCount(); i++) {
+			int index = i;
+			injector.defineConstruction((Class<Node>) Nodes.TYPES[index], () -> Nodes.create(index, this));
+		}
+		return injector;
+	}
+
+	/**
+	 * Like {@link #defineConstructions(Injector)} for a template.
+	 * 
+	 * @param template
+	 * @return the template
+	 */
+	@SuppressWarnings("unchecked")
+	public InjectorTemplate defineConstructions(InjectorTemplate template) {
+		for (int i = 0; i < getBeanCount(); i++) {
+			int index = i;
+			template.defineConstruction((Class<Node>) Nodes.TYPES[index], () -> Nodes.create(index, this));
+		}
+		return template;
+	}
+
+	/**
+	 * Wires all roots of this graph.
+	 * 
+	 * @param injector
+	 * @return the injector
+	 */
+	public Injector makeBeans(Injector injector) {
+		for (Class<? extends Node> root : getRoots()) {
+			injector.makeBeans(root);
+		}
+		return injector;
+	}
+
+	/**
+	 * Wires all roots of this graph in parallel.
+	 * 
+	 * @param injector
+	 * @param executor
+	 * @return the injector
+	 */
+	public Injector makeBeans(Injector injector, Executor executor) {
+		for (Class<? extends Node> root : getRoots()) {
+			injector.makeBeans(root, executor);
+		}
+		return injector;
+	}
+}
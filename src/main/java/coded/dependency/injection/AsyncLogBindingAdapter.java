@@ -0,0 +1,220 @@
+package coded.dependency.injection;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link LogBindingAdapter} writing asynchronously. Log lines are formatted by
+ * the logging thread and put into a bounded buffer, a background thread writes
+ * them in batches with one flush per batch. With that logging threads do not
+ * contend for the output stream. If the buffer is full the
+ * {@link OverflowPolicy} applies.
+ * 
+ * The writer thread is started by {@link #start()}, lines logged before are
+ * written synchronously. {@link #stop()} writes all pending lines and ends the
+ * writer thread, it is also invoked on JVM shutdown. Lines logged after stop are
+ * written synchronously. Dropped lines are counted, see
+ * {@link #getDroppedCount()}, and reported by a log line with the next batch.
+ *
+ */
+public class AsyncLogBindingAdapter extends LogBindingAdapter implements Lifecycle, AutoCloseable {
+
+	/**
+	 * Handling of log lines if the buffer is full.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * The line is dropped and counted, logging never blocks.
+		 */
+		DROP,
+		/**
+		 * The logging thread waits until there is space, no line is lost.
+		 */
+		BLOCK,
+		/**
+		 * Every {@value AsyncLogBindingAdapter#SAMPLE_RATE}th overflowing line waits
+		 * until there is space, the others are dropped.
+		 */
+		SAMPLE
+	}
+
+	public static final int SAMPLE_RATE = 64;
+
+	private static final int MAX_BATCH = 256;
+	// put by stop, ends the writer thread, compared by identity
+	private static final String STOP = new String();
+	private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+	private final BlockingQueue<String> buffer;
+	private final OverflowPolicy overflowPolicy;
+	private final AtomicLong overflowCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong unreportedDropCount = new AtomicLong();
+	private final Thread shutdownHook = new Thread(this::stop, "injector-log-shutdown");
+	private volatile boolean running;
+	private volatile boolean writerEnded = true;
+	private Thread writer;
+
+	/**
+	 * @param out            log outputs target
+	 * @param capacity       maximum number of buffered log lines
+	 * @param overflowPolicy handling of log lines if the buffer is full
+	 */
+	public AsyncLogBindingAdapter(PrintWriter out, int capacity, OverflowPolicy overflowPolicy) {
+		super(out);
+		if (capacity < 1 || overflowPolicy == null) {
+			throw new IllegalArgumentException("capacity must be positive and overflowPolicy must not be NULL");
+		}
+		this.buffer = new ArrayBlockingQueue<>(capacity);
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Starts the writer thread and registers the shutdown hook.
+	 */
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		writerEnded = false;
+		writer = new Thread(this::writeBatches, "injector-log-writer");
+		writer.setDaemon(true);
+		writer.start();
+		Runtime.getRuntime()
+			.addShutdownHook(shutdownHook);
+	}
+
+	/**
+	 * Writes all pending lines and ends the writer thread. If the writer thread
+	 * has died or does not end within a second the
+	 * pending lines are written by the calling thread.
+	 */
+	@Override
+	public void stop() {
+		Thread stopping;
+		synchronized (this) {
+			if (!running) {
+				return;
+			}
+			running = false;
+			stopping = writer;
+			writer = null;
+			if (Thread.currentThread() != shutdownHook) {
+				try {
+					Runtime.getRuntime()
+						.removeShutdownHook(shutdownHook);
+				} catch (IllegalStateException e) {
+					// stopped by another shutdown hook, the pending lines are written below
+				}
+			}
+		}
+		try {
+			// a live writer drains the buffer, there is space for the stop entry soon
+			if (stopping.isAlive() && buffer.offer(STOP, STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				stopping.join(STOP_TIMEOUT_MILLIS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+				.interrupt();
+		}
+		if (stopping.isAlive()) {
+			// stuck, the pending lines and the dropped count are written below
+			stopping.interrupt();
+		}
+		writerEnded = true;
+		flushPending();
+	}
+
+	@Override
+	public void close() {
+		stop();
+	}
+
+	/**
+	 * @return number of log lines dropped because the buffer was full
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	@Override
+	protected void write(String lines) {
+		if (!running) {
+			super.write(lines);
+		} else if (!buffer.offer(lines)) {
+			overflow(lines);
+		}
+		if (!running && writerEnded) {
+			// stopped concurrently, the writer thread is gone already
+			flushPending();
+		}
+	}
+
+	private void overflow(String lines) {
+		boolean wait = overflowPolicy == OverflowPolicy.BLOCK || (overflowPolicy == OverflowPolicy.SAMPLE
+				&& overflowCount.getAndIncrement() % SAMPLE_RATE == 0);
+		if (wait) {
+			try {
+				buffer.put(lines);
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+					.interrupt();
+			}
+		}
+		droppedCount.incrementAndGet();
+		unreportedDropCount.incrementAndGet();
+	}
+
+	private void writeBatches() {
+		List<String> batch = new ArrayList<>(MAX_BATCH);
+		boolean stopped = false;
+		while (!stopped) {
+			try {
+				batch.add(buffer.take());
+			} catch (InterruptedException e) {
+				return;
+			}
+			stopped = writeBatch(batch);
+		}
+	}
+
+	private void flushPending() {
+		List<String> batch = new ArrayList<>(MAX_BATCH);
+		do {
+			writeBatch(batch);
+		} while (!buffer.isEmpty());
+	}
+
+	/**
+	 * @return true if the batch contained the stop entry
+	 */
+	private boolean writeBatch(List<String> batch) {
+		buffer.drainTo(batch, MAX_BATCH - batch.size());
+		boolean stopped = false;
+		StringBuilder lines = new StringBuilder();
+		for (String line : batch) {
+			if (line == STOP) {
+				stopped = true;
+			} else {
+				lines.append(line);
+			}
+		}
+		long dropped = unreportedDropCount.getAndSet(0);
+		if (dropped > 0) {
+			lines.append(String.format("%d log lines dropped%n", dropped));
+		}
+		if (lines.length() > 0) {
+			super.write(lines.toString());
+		}
+		batch.clear();
+		return stopped;
+	}
+}
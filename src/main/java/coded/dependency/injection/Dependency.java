@@ -1,17 +1,22 @@
 package coded.dependency.injection;
 
+import java.util.function.Supplier;
+
 import coded.dependency.injection.exception.BeanOutOfContextCreationException;
 import coded.dependency.injection.exception.ConstructionMissingException;
 import coded.dependency.injection.exception.ContextMismatchException;
 import coded.dependency.injection.exception.CyclicDependencyException;
 import coded.dependency.injection.exception.DependencyCreationException;
+import coded.dependency.injection.internal._Jfr;
 import coded.dependency.injection.internal._NoContextDefinedException;
 import coded.dependency.injection.internal._WiringHelper;
 
 public class Dependency<T> {
 
-	private T target;
+	private volatile T target;
+	private volatile Supplier<T> resolver;
 	private Class<T> targetClass;
+	private final boolean lazy;
 
 	/**
 	 * Creates the proxy that connects the dependent (this) to the target (service).
@@ -31,26 +36,44 @@ public class Dependency<T> {
 	 * @param targetClass the target object type (service)
 	 */
 	public Dependency(Dependent d, Class<T> targetClass) {
+		this(d, targetClass, false);
+	}
+
+	Dependency(Dependent d, Class<T> targetClass, boolean lazy) {
 		this.targetClass = targetClass;
-		registerDependencyForContext(d, targetClass);
+		this.lazy = lazy;
+		if (lazy) {
+			registerLazyDependencyForContext(d, targetClass);
+		} else {
+			registerDependencyForContext(d, targetClass);
+		}
 	}
 
-	private void registerDependencyForContext(Dependent dependent, Class<T> targetClass) {
-		_WiringHelper helper = null;
+	private _WiringHelper getThreadContext(Dependent dependent) {
 		try {
-			helper = _WiringHelper.getThreadContext();
+			return _WiringHelper.getThreadContext();
 		} catch (_NoContextDefinedException e) {
 			throw new BeanOutOfContextCreationException("injection error: " + getInjectionInfo(dependent)
 					+ " - two possible reasons: (1) the bean is not created by the injector or "
 					+ "(2) the bean is not created within the injector thread.");
 		}
+	}
 
+	private void registerDependencyForContext(Dependent dependent, Class<T> targetClass) {
+		_WiringHelper helper = getThreadContext(dependent);
+		Object event = _Jfr.beginInjection();
 		try {
 			helper.addNewDependency(dependent, this);
+			if (helper.isParallelWiring()) {
+				resolveLater(helper, dependent, helper.getObjectLater(targetClass));
+				_Jfr.endInjection(event, helper, targetClass, dependent);
+				return;
+			}
 			target = helper.getObject(targetClass);
 			if (target == null) {
 				throw new DependencyCreationException(getInjectionInfo(dependent));
 			}
+			_Jfr.endInjection(event, helper, targetClass, dependent);
 			helper.loginfo(Dependency.class, () -> {
 				return "Injected " + getInjectionInfo(dependent) + ".";
 			});
@@ -69,6 +92,54 @@ public class Dependency<T> {
 		}
 	}
 
+	private void registerLazyDependencyForContext(Dependent dependent, Class<T> targetClass) {
+		_WiringHelper helper = getThreadContext(dependent);
+		helper.addNewDependency(dependent, this);
+		resolver = () -> {
+			try {
+				T object = helper.getObjectLazily(targetClass);
+				if (object == null) {
+					throw new DependencyCreationException(getInjectionInfo(dependent));
+				}
+				target = object;
+			} catch (BeanOutOfContextCreationException | ContextMismatchException | CyclicDependencyException
+					| ConstructionMissingException | DependencyCreationException e) {
+				helper.logerror(Dependency.class, () -> e.getMessage());
+				throw e;
+			} catch (Exception e) {
+				if (_WiringHelper.isCauseKnownRuntimeException(e)) {
+					RuntimeException cause = (RuntimeException) e.getCause();
+					helper.logerror(Dependency.class, () -> cause.getMessage());
+					throw cause;
+				}
+				helper.logerror(Dependency.class, () -> "Injecting " + getInjectionInfo(dependent) + " failed", e);
+				throw new DependencyCreationException(getInjectionInfo(dependent), e);
+			}
+			helper.loginfo(Dependency.class, () -> {
+				return "Injected lazily " + getInjectionInfo(dependent) + ".";
+			});
+			return target;
+		};
+		helper.loginfo(Dependency.class, () -> {
+			return "Deferred injection " + dependent.getClass()
+				.getSimpleName() + " -> " + targetClass.getSimpleName() + " until first access.";
+		});
+	}
+
+	private void resolveLater(_WiringHelper helper, Dependent dependent, Supplier<T> pendingTarget) {
+		resolver = () -> {
+			T object = pendingTarget.get();
+			if (object == null) {
+				throw new DependencyCreationException(getInjectionInfo(dependent));
+			}
+			target = object;
+			helper.loginfo(Dependency.class, () -> {
+				return "Injected " + getInjectionInfo(dependent) + ".";
+			});
+			return object;
+		};
+	}
+
 	/**
 	 * Creates a dependency of an anonymous client object. The client must not be
 	 * created by {@link Injector#makeBeans(Class)}. With that the client object is
@@ -80,17 +151,20 @@ public class Dependency<T> {
 	 * @param targetClass
 	 */
 	public Dependency(String contextName, Dependent dependent, Class<T> targetClass) {
+		this.targetClass = targetClass;
+		this.lazy = false;
 		final _WiringHelper helper = (_WiringHelper) _WiringHelper.getOrCreateContext(contextName);
+		final _WiringHelper previous;
+		try {
+			previous = _WiringHelper.enterThreadContext(contextName);
+		} catch (ContextMismatchException e) {
+			helper.logerror(Dependency.class, () -> e.getMessage());
+			throw e;
+		}
 		try {
-			try {
-				_WiringHelper.setThreadContext(contextName);
-			} catch (ContextMismatchException e) {
-				helper.logerror(Dependency.class, () -> e.getMessage());
-				throw e;
-			}
 			registerDependencyForContext(dependent, targetClass);
 		} finally {
-			_WiringHelper.resetThreadContext();
+			_WiringHelper.restoreThreadContext(previous);
 		}
 	}
 
@@ -109,8 +183,31 @@ public class Dependency<T> {
 				+ "')";
 	}
 
+	/**
+	 * @return the target, waits for its creation if it was requested by a parallel
+	 *         {@link Injector#makeBeans(Class, java.util.concurrent.Executor)} or
+	 *         creates it on first access of a {@link LazyDependency}
+	 */
 	public T get() {
-		return this.target;
+		T object = target;
+		if (object == null) {
+			Supplier<T> pending = resolver;
+			if (pending != null) {
+				object = pending.get();
+				resolver = null;
+			} else {
+				object = target;
+			}
+		}
+		return object;
+	}
+
+	/**
+	 * @return true if this is a {@link LazyDependency} whose target is not created
+	 *         yet
+	 */
+	public boolean isDeferred() {
+		return lazy && target == null;
 	}
 
 	public Class<T> getTargetClass() {
@@ -119,5 +216,6 @@ public class Dependency<T> {
 
 	public void setTarget(T object) {
 		target = object;
+		resolver = null;
 	}
 }
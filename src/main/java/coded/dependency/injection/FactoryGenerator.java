@@ -0,0 +1,195 @@
+package coded.dependency.injection;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.SourceVersion;
+
+/**
+ * Build time tool generating a Java factory from a {@link WiringPlan}. The
+ * factory defines a construction with a constructor reference for every bean
+ * class with a public default constructor, so the injector creates no bean by
+ * reflection, and holds every bean in a final field, so no lookup is needed
+ * after creation. Beans created by a construction supplier defined for their
+ * class when the plan was recorded keep that supplier, no construction is
+ * generated for them. Run it after saving the plan of a representative start:
+ * 
+ * <pre>
+ * java -cp app.jar:jcodeddi.jar coded.dependency.injection.FactoryGenerator \
+ * 	app.plan com.example.AppFactory src/generated/java
+ * </pre>
+ * 
+ * The generated factory is used instead of makeBeans:
+ * 
+ * <pre>
+ * AppFactory factory = AppFactory.create("app");
+ * factory.myApp.run();
+ * </pre>
+ * 
+ * Constructions of beans without a public default constructor, e.g., of
+ * interfaces, and of supplied beans must be defined before, see
+ * {@code AppFactory(Injector injector)}.
+ *
+ */
+public class FactoryGenerator {
+
+	private final ClassLoader loader;
+
+	/**
+	 * @param loader loads the bean classes of the plan
+	 */
+	public FactoryGenerator(ClassLoader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Writes the source of the factory class.
+	 * 
+	 * @param plan      the wiring plan
+	 * @param className fully qualified name of the factory class
+	 * @param out       the source target
+	 * @throws IOException            if writing fails
+	 * @throws ClassNotFoundException if a class of the plan is not found
+	 */
+	public void generate(WiringPlan plan, String className, Writer out) throws IOException, ClassNotFoundException {
+		int dot = className.lastIndexOf('.');
+		String packageName = dot < 0 ? null : className.substring(0, dot);
+		String simpleName = className.substring(dot + 1);
+		List<Class<?>> roots = new ArrayList<>();
+		for (String root : plan.getRoots()) {
+			roots.add(Class.forName(root, false, loader));
+		}
+		List<Class<?>> beans = new ArrayList<>();
+		Set<Class<?>> supplied = new HashSet<>();
+		for (WiringPlan.Bean bean : plan.getBeans()) {
+			Class<?> clz = Class.forName(bean.getClassName(), false, loader);
+			beans.add(clz);
+			if (bean.isSupplied()) {
+				supplied.add(clz);
+			}
+		}
+		List<String> fields = fieldNames(beans);
+
+		if (packageName != null) {
+			out.write("package " + packageName + ";\n\n");
+		}
+		out.write("import java.util.List;\n\n");
+		out.write("import coded.dependency.injection.Injector;\n\n");
+		out.write("/**\n * Generated by " + FactoryGenerator.class.getName()
+				+ " from a wiring plan, do not edit.\n */\n");
+		out.write("public final class " + simpleName + " {\n\n");
+		out.write("\tpublic final Injector injector;\n");
+		for (int i = 0; i < beans.size(); i++) {
+			if (isAccessible(beans.get(i))) {
+				out.write("\tpublic final " + beans.get(i)
+					.getCanonicalName() + " " + fields.get(i) + ";\n");
+			}
+		}
+		out.write("\n\t/**\n\t * Makes the beans of the plan, the constructions of all beans are defined\n"
+				+ "\t * before.\n\t */\n");
+		out.write("\tpublic " + simpleName + "(Injector injector) {\n");
+		out.write("\t\tthis.injector = injector;\n");
+		StringBuilder rootList = new StringBuilder();
+		for (Class<?> root : roots) {
+			rootList.append(rootList.length() == 0 ? "" : ", ")
+				.append(root.getCanonicalName())
+				.append(".class");
+		}
+		out.write("\t\tinjector.makeBeans(List.of(" + rootList + "));\n");
+		for (int i = 0; i < beans.size(); i++) {
+			if (isAccessible(beans.get(i))) {
+				out.write("\t\t" + fields.get(i) + " = injector.getBean(" + beans.get(i)
+					.getCanonicalName() + ".class);\n");
+			}
+		}
+		out.write("\t}\n\n");
+		out.write("\t/**\n\t * @return factory of a context with all constructions defined\n\t */\n");
+		out.write("\tpublic static " + simpleName + " create(String contextName) {\n");
+		out.write("\t\treturn new " + simpleName + "(defineConstructions(Injector.getContext(contextName)));\n");
+		out.write("\t}\n\n");
+		out.write("\t/**\n\t * Defines the constructions of all beans with a public default constructor,\n"
+				+ "\t * except of supplied beans.\n\t */\n");
+		out.write("\tpublic static Injector defineConstructions(Injector injector) {\n");
+		for (Class<?> bean : beans) {
+			if (hasDefaultConstructor(bean) && !supplied.contains(bean)) {
+				String name = bean.getCanonicalName();
+				out.write("\t\tinjector.defineConstruction(" + name + ".class, " + name + "::new);\n");
+			}
+		}
+		out.write("\t\treturn injector;\n");
+		out.write("\t}\n}\n");
+		out.flush();
+	}
+
+	private static boolean isAccessible(Class<?> clz) {
+		for (Class<?> c = clz; c != null; c = c.getEnclosingClass()) {
+			if (!Modifier.isPublic(c.getModifiers()) || c.getCanonicalName() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasDefaultConstructor(Class<?> clz) {
+		if (!isAccessible(clz) || clz.isInterface() || Modifier.isAbstract(clz.getModifiers())
+				|| (clz.getEnclosingClass() != null && !Modifier.isStatic(clz.getModifiers()))) {
+			return false;
+		}
+		try {
+			return Modifier.isPublic(clz.getConstructor()
+				.getModifiers());
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static List<String> fieldNames(List<Class<?>> beans) {
+		Set<String> used = new HashSet<>();
+		used.add("injector");
+		List<String> names = new ArrayList<>();
+		for (Class<?> bean : beans) {
+			String simpleName = bean.getSimpleName();
+			String name = simpleName.isEmpty() ? "bean"
+					: Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+			if (SourceVersion.isKeyword(name)) {
+				name += "Bean";
+			}
+			String unique = name;
+			for (int i = 2; !used.add(unique); i++) {
+				unique = name + i;
+			}
+			names.add(unique);
+		}
+		return names;
+	}
+
+	/**
+	 * @param args plan file, fully qualified factory class name, source directory
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length != 3) {
+			System.err.println(
+					"usage: " + FactoryGenerator.class.getName() + " <plan file> <factory class> <source dir>");
+			System.exit(1);
+		}
+		WiringPlan plan = WiringPlan.load(Paths.get(args[0]));
+		Path file = Paths.get(args[2], args[1].replace('.', '/') + ".java");
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			new FactoryGenerator(Thread.currentThread()
+				.getContextClassLoader()).generate(plan, args[1], out);
+		}
+		System.out.println("Generated " + file);
+	}
+}
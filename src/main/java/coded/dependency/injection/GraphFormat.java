@@ -0,0 +1,15 @@
+package coded.dependency.injection;
+
+/**
+ * Output format of {@link Injector#exportGraph(java.io.Writer, GraphFormat, boolean)}.
+ */
+public enum GraphFormat {
+	/**
+	 * Graphviz DOT, e.g., {@code dot -Tsvg graph.dot -o graph.svg}.
+	 */
+	DOT,
+	/**
+	 * JSON object with the arrays {@code nodes} and {@code edges}.
+	 */
+	JSON
+}
@@ -1,9 +1,18 @@
 package coded.dependency.injection;
 
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import coded.dependency.injection.exception.CyclicDependencyException;
+import coded.dependency.injection.exception.LifecycleException;
 import coded.dependency.injection.internal._WiringHelper;
 
 /**
@@ -26,10 +35,78 @@ public interface Injector {
 		return (Injector) _WiringHelper.getOrCreateContext(contextName);
 	}
 
+	/**
+	 * Like {@link #getContext(String)}, but a new injector shares the construction
+	 * suppliers and the logger of the template, nothing is copied. Injector
+	 * specific {@link #defineConstruction(Class, Supplier)} calls are still
+	 * possible. An existing injector is returned as is.
+	 * 
+	 * @param contextName identifier for the named injector
+	 * @param template    definitions shared by the new injector
+	 * @return the injector
+	 */
+	public static Injector getContext(String contextName, InjectorTemplate template) {
+		return _WiringHelper.getOrCreateContext(contextName, template);
+	}
+
+	/**
+	 * @return copy of the names of all injectors, see also
+	 *         {@link #getContextNameSet()}
+	 */
 	public static String[] getContextNames() {
 		return _WiringHelper.getContextNames();
 	}
 
+	/**
+	 * Returns a live view of the names of all injectors, it is not copied. The view
+	 * cannot be modified and its iteration is weakly consistent, it reflects
+	 * injectors created or removed concurrently or not.
+	 * 
+	 * @return names of all injectors
+	 */
+	public static Set<String> getContextNameSet() {
+		return _WiringHelper.getContextNameSet();
+	}
+
+	/**
+	 * Enables the background eviction of injectors, e.g., of leaked Servlet
+	 * session injectors. An injector is evicted if it was not accessed by
+	 * {@link #getContext(String)} within idleTimeout or, if there are more than
+	 * maximumSize injectors, if it is the least recently accessed one. Evicted
+	 * injectors are removed like by {@link #remove()} and their beans are stopped
+	 * afterwards if they were started. {@link #getContext(String)} is never
+	 * blocked by the eviction. Injectors making beans or having children are not
+	 * evicted, a parent is evicted after its children.
+	 * 
+	 * @param idleTimeout null for no idle eviction
+	 * @param maximumSize 0 for no size bound
+	 */
+	public static void setEviction(Duration idleTimeout, int maximumSize) {
+		_WiringHelper.setEviction(idleTimeout, maximumSize);
+	}
+
+	/**
+	 * Disables the eviction, see {@link #setEviction(Duration, int)}.
+	 */
+	public static void disableEviction() {
+		_WiringHelper.setEviction(null, 0);
+	}
+
+	/**
+	 * Registers an {@link InjectorMXBean} for every injector and an
+	 * {@link InjectorsMXBean} for all injectors at the platform MBean server, e.g.,
+	 * for jconsole. MBeans of removed or evicted injectors are unregistered.
+	 * Disabled by default, the counters are only maintained while enabled, so
+	 * {@link #getBean(Class)} does not pay for them otherwise.
+	 * 
+	 * @param enabled false unregisters all MBeans
+	 * @throws UnsupportedOperationException if the module java.management is not
+	 *                                       present
+	 */
+	public static void setMBeansEnabled(boolean enabled) {
+		_WiringHelper.setMBeansEnabled(enabled);
+	}
+
 	/**
 	 * Removes all injectors from the injection provider. Can be used to free all
 	 * internally used memory. Use this carefully! Every subsequent invocation
@@ -45,6 +122,27 @@ public interface Injector {
 	 */
 	String getName();
 
+	/**
+	 * Retrieves the named child injector of this injector, a new one is created if
+	 * needed. A dependency in the child is resolved from this injector (or its
+	 * parents) if the child defines no construction for the target, e.g., a
+	 * session context uses the connection pool of the application context. Beans
+	 * of a parent are created in the parent and started if the parent is started,
+	 * they are not started or stopped by the child. Removing a parent does not
+	 * remove its children.
+	 * 
+	 * @param contextName identifier for the named injector
+	 * @return the child injector
+	 * @throws IllegalStateException if the named injector exists and is no child of
+	 *                               this injector
+	 */
+	Injector getChildContext(String contextName);
+
+	/**
+	 * @return parent injector or null, see {@link #getChildContext(String)}
+	 */
+	Injector getParent();
+
 	/**
 	 * Set your own log target by implementing {@link LogBindingInterface}. Default
 	 * implementation is {@link LogBindingAdapter} writing logs to
@@ -52,6 +150,16 @@ public interface Injector {
 	 */
 	Injector setLogger(LogBindingInterface logger);
 
+	/**
+	 * Records the construction and start times of the beans created or started
+	 * from now on, see {@link #getStartupProfile()}. Disabled by default, disabling
+	 * discards the recorded times.
+	 * 
+	 * @param enabled true to record times
+	 * @return the injector
+	 */
+	Injector setProfilingEnabled(boolean enabled);
+
 	/**
 	 * Optional, defines the supplier of the given class, otherwise the default
 	 * constructor is used.
@@ -68,6 +176,9 @@ public interface Injector {
 	 * if not created yet, see also {@link #defineConstruction(Class, Supplier)}.
 	 * Beans are treated as 'singletons' within an injector. Multiple connects of
 	 * classes are ignored.
+	 * Several threads may make beans of the same injector at the same time, every
+	 * bean is created once, a thread needing a bean in creation by another thread
+	 * waits for it.
 	 * 
 	 * @param <T>
 	 * @param classDependent class to begin with recursive wiring
@@ -76,6 +187,90 @@ public interface Injector {
 	 */
 	<T extends Dependent> Injector makeBeans(Class<T> classDependent);
 
+	/**
+	 * Like {@link #makeBeans(Class)}, but independent branches of the dependency
+	 * graph are created in parallel using the given executor, e.g.,
+	 * {@link java.util.concurrent.ForkJoinPool#commonPool()}. The calling thread
+	 * creates the root bean and waits until all beans are created. A
+	 * {@link Dependency} member created within a bean constructor does not wait
+	 * for its target, it is resolved by {@link Dependency#get()}. Beans are still
+	 * 'singletons' within the injector and cyclic dependencies are detected.
+	 * 
+	 * @param <T>
+	 * @param classDependent class to begin with recursive wiring
+	 * @param executor       runs the creation of dependencies
+	 * @return injector
+	 */
+	<T extends Dependent> Injector makeBeans(Class<T> classDependent, Executor executor);
+
+	/**
+	 * Like {@link #makeBeans(Class)} for many root classes at once. The context is
+	 * bound once for all roots, beans shared by the roots are created once and a
+	 * single summary is logged. Duplicate roots are ignored.
+	 * 
+	 * @param classDependents classes to begin with recursive wiring
+	 * @return injector
+	 */
+	Injector makeBeans(Collection<Class<? extends Dependent>> classDependents);
+
+	/**
+	 * Like {@link #makeBeans(Collection)}, but the roots and independent branches of
+	 * their dependency graphs are created in parallel using the given executor,
+	 * see {@link #makeBeans(Class, Executor)}.
+	 * 
+	 * @param classDependents classes to begin with recursive wiring
+	 * @param executor        runs the creation of roots and dependencies
+	 * @return injector
+	 */
+	Injector makeBeans(Collection<Class<? extends Dependent>> classDependents, Executor executor);
+
+	/**
+	 * Like {@link #makeBeans(Class)}, but the beans are created by the given
+	 * executor and the calling thread is not blocked. The future completes with
+	 * this injector. If the future is cancelled or the timeout expires, the
+	 * running bean creation is interrupted, no further beans are created and the
+	 * beans created so far by this call are discarded. The same applies if the
+	 * wiring fails, the future completes exceptionally then. Beans other beans
+	 * depend on meanwhile are kept, all beans are kept while another makeBeans of
+	 * this injector runs or while it has child injectors. Note that the
+	 * interrupt closes any {@link java.nio.channels.InterruptibleChannel} the
+	 * running construction supplier operates on, suppliers doing such I/O must
+	 * tolerate the close.
+	 * 
+	 * @param <T>
+	 * @param classDependent class to begin with recursive wiring
+	 * @param executor       runs the wiring
+	 * @param timeout        deadline for the wiring, null for none
+	 * @return future of the injector
+	 */
+	<T extends Dependent> CompletableFuture<Injector> makeBeansAsync(Class<T> classDependent, Executor executor,
+			Duration timeout);
+
+	/**
+	 * Returns a task that binds this injector to the thread running it, e.g., a
+	 * virtual thread. With that a bean created by the task, i.e., by a construction
+	 * supplier handing off work, resolves its {@link Dependency}s in this
+	 * injector. The binding is removed when the task ends, nothing is left in
+	 * pooled threads. The caller must wait for the task within the supplier. A
+	 * task needing a bean in creation by the caller, directly or by a further
+	 * hand-off, throws a {@link CyclicDependencyException} instead of waiting for
+	 * it forever.
+	 * 
+	 * @param task
+	 * @return the binding task
+	 */
+	Runnable bindContext(Runnable task);
+
+	/**
+	 * Like {@link #bindContext(Runnable)} for all tasks passed to the returned
+	 * executor, e.g., for
+	 * {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier, Executor)}.
+	 * 
+	 * @param executor runs the tasks
+	 * @return the binding executor
+	 */
+	Executor bindContext(Executor executor);
+
 	/**
 	 * Runs for all beans its start method if it was defined by
 	 * {@link #defineStart(Class, Consumer)} or by the implementation of the
@@ -83,6 +278,17 @@ public interface Injector {
 	 */
 	Injector start();
 
+	/**
+	 * Like {@link #start()}, but beans are started in parallel using the given
+	 * executor. A bean is started as soon as all its dependencies are started. If
+	 * any start fails, no further beans are started and the beans started by this
+	 * call are stopped again in reverse order.
+	 * 
+	 * @param executor runs the start methods
+	 * @throws LifecycleException if any start failed
+	 */
+	Injector start(Executor executor);
+
 	/**
 	 * Runs for all beans its stop method if it was defined by
 	 * {@link #defineStop(Class, Consumer)} or by the implementation of the
@@ -90,6 +296,24 @@ public interface Injector {
 	 */
 	Injector stop();
 
+	/**
+	 * Like {@link #stop()}, but beans are stopped in parallel using the given
+	 * executor. The dependency tree is drained in reverse order, a bean is stopped
+	 * as soon as all its dependents are stopped. A bean not stopped within
+	 * beanTimeout does not block its dependencies any longer, its stop method is
+	 * not interrupted. No further beans are stopped after timeout. If the stop of
+	 * a bean that exceeded beanTimeout fails while other beans are still
+	 * stopping, its failure is added as suppressed exception, later failures are
+	 * only logged.
+	 * 
+	 * @param executor    runs the stop methods
+	 * @param timeout     for stopping all beans
+	 * @param beanTimeout for stopping a single bean
+	 * @throws LifecycleException listing the beans that did not stop in time or
+	 *                            failed
+	 */
+	Injector stop(Executor executor, Duration timeout, Duration beanTimeout);
+
 	/**
 	 * Returns the bean for the given class or null if it does not exist. Any bean
 	 * created by {@link #makeBeans(Class)} can be accessed, including service beans
@@ -101,6 +325,53 @@ public interface Injector {
 	 */
 	<T> T getBean(Class<T> clz);
 
+	/**
+	 * Returns the construction and start times of all beans created by this
+	 * injector in nanoseconds, the slowest beans and the critical path through the
+	 * dependency graph. Use it to find beans worth to be created lazily or in
+	 * parallel. The profile is empty unless profiling is enabled, see
+	 * {@link #setProfilingEnabled(boolean)}.
+	 * 
+	 * @return snapshot of the current times
+	 */
+	StartupProfile getStartupProfile();
+
+	/**
+	 * Returns the resolved dependency graph with the measured construction times,
+	 * the times are 0 unless profiling is enabled.
+	 * Save it with {@link WiringPlan#save(java.nio.file.Path)} and preload the
+	 * bean classes on the next start, e.g.:
+	 * 
+	 * <pre>
+	 * WiringPlan.load(planFile)
+	 * 	.preload(getClass().getClassLoader(), executor);
+	 * Injector.getContext("app")
+	 * 	.makeBeans(MyApp.class);
+	 * </pre>
+	 * 
+	 * @return plan of the beans created so far
+	 */
+	WiringPlan getWiringPlan();
+
+	/**
+	 * Turns this injector into an immutable snapshot of its beans and
+	 * dependencies. Afterwards {@link #getBean(Class)} is lock-free and safe from
+	 * any thread, beans are safely published to all threads. Construction
+	 * suppliers are released, further {@link #makeBeans(Class)} or
+	 * {@link #defineConstruction(Class, Supplier)} calls and the creation of new
+	 * beans are rejected with a
+	 * {@link coded.dependency.injection.exception.ContextFrozenException}.
+	 * {@link #start()} and {@link #stop()} are still possible.
+	 * 
+	 * @return the injector
+	 */
+	Injector freeze();
+
+	/**
+	 * @return true if {@link #freeze()} was invoked
+	 */
+	boolean isFrozen();
+
 	/**
 	 * Prints the dependency tree(s) to System.out.
 	 */
@@ -113,6 +384,27 @@ public interface Injector {
 	 */
 	Injector print(PrintStream out);
 
+	/**
+	 * Writes the dependency graph to the given writer, every bean is written once
+	 * as node and every dependency once as edge. Roots are the beans created by
+	 * makeBeans, targets of deferred or unresolved dependencies are marked. The
+	 * writer is flushed but not closed.
+	 * 
+	 * @param out         the writer
+	 * @param format      DOT or JSON
+	 * @param withTimings add construction and start times, see
+	 *                    {@link #getStartupProfile()}
+	 * @return the injector
+	 * @throws java.io.UncheckedIOException if writing fails
+	 */
+	Injector exportGraph(Writer out, GraphFormat format, boolean withTimings);
+
+	/**
+	 * Writes the dependency graph UTF-8 encoded to the given stream, see
+	 * {@link #exportGraph(Writer, GraphFormat, boolean)}.
+	 */
+	Injector exportGraph(OutputStream out, GraphFormat format, boolean withTimings);
+
 	/**
 	 * Removes this application context (injector instance) from the injector
 	 * provider. Can be used to free internal memory if an injector is not needed
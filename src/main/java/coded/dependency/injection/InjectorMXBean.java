@@ -0,0 +1,45 @@
+package coded.dependency.injection;
+
+/**
+ * Management interface of a single injector, registered as
+ * <code>coded.dependency.injection:type=Injector,name=&lt;context name&gt;</code>
+ * if enabled by {@link Injector#setMBeansEnabled(boolean)}. Counters are only
+ * updated while MBeans are enabled.
+ *
+ */
+public interface InjectorMXBean {
+
+	String getName();
+
+	/**
+	 * @return number of beans
+	 */
+	int getBeanCount();
+
+	/**
+	 * @return number of beans created by construction suppliers or constructors
+	 */
+	long getConstructionCount();
+
+	/**
+	 * @return sum of the inclusive construction times in nanoseconds
+	 */
+	long getConstructionTimeNanos();
+
+	/**
+	 * @return number of {@link Injector#getBean(Class)} calls returning a bean
+	 */
+	long getBeanHitCount();
+
+	/**
+	 * @return number of {@link Injector#getBean(Class)} calls returning null
+	 */
+	long getBeanMissCount();
+
+	/**
+	 * @return NEW, STARTED or STOPPED
+	 */
+	String getLifecycleState();
+
+	boolean isFrozen();
+}
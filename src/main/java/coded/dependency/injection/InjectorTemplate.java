@@ -0,0 +1,53 @@
+package coded.dependency.injection;
+
+import java.util.function.Supplier;
+
+import coded.dependency.injection.internal._InjectorTemplate;
+
+/**
+ * Reusable definitions for many injectors of the same kind, e.g., one injector
+ * per Servlet session. Construction suppliers and the logger are defined once,
+ * {@link Injector#getContext(String, InjectorTemplate)} creates a new injector
+ * sharing them read-only instead of copying them. The default constructors of
+ * beans without construction supplier are resolved once for all injectors
+ * created from the template.
+ * 
+ */
+public interface InjectorTemplate {
+
+	/**
+	 * @return new empty template
+	 */
+	public static InjectorTemplate create() {
+		return new _InjectorTemplate();
+	}
+
+	/**
+	 * Like {@link Injector#defineConstruction(Class, Supplier)}. Injectors created
+	 * from this template before are not affected.
+	 * 
+	 * @param clz
+	 * @param construction
+	 * @return the template
+	 */
+	<T> InjectorTemplate defineConstruction(Class<? super T> clz, Supplier<? super T> construction);
+
+	/**
+	 * Like {@link Injector#setLogger(LogBindingInterface)}, the logger is shared by
+	 * all injectors created from this template. Injectors use the default
+	 * {@link LogBindingAdapter} if no logger is set.
+	 * 
+	 * @param logger the shared logger, null to disable log outputs
+	 * @return the template
+	 */
+	InjectorTemplate setLogger(LogBindingInterface logger);
+
+	/**
+	 * Like {@link Injector#setProfilingEnabled(boolean)} for injectors created from
+	 * this template afterwards.
+	 * 
+	 * @param enabled true to record times
+	 * @return the template
+	 */
+	InjectorTemplate setProfilingEnabled(boolean enabled);
+}
@@ -0,0 +1,24 @@
+package coded.dependency.injection;
+
+/**
+ * Management interface of all injectors, registered as
+ * <code>coded.dependency.injection:type=Injectors</code> if enabled by
+ * {@link Injector#setMBeansEnabled(boolean)}. Counters are the sums of the
+ * counters of the live injectors, see {@link InjectorMXBean}.
+ *
+ */
+public interface InjectorsMXBean {
+
+	/**
+	 * @return number of live injectors
+	 */
+	int getContextCount();
+
+	long getConstructionCount();
+
+	long getConstructionTimeNanos();
+
+	long getBeanHitCount();
+
+	long getBeanMissCount();
+}
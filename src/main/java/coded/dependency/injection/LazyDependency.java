@@ -0,0 +1,35 @@
+package coded.dependency.injection;
+
+/**
+ * A {@link Dependency} whose target is not created by
+ * {@link Injector#makeBeans(Class)}, it is created on first {@link #get()}
+ * including its own dependencies. Use it for beans that are rarely needed, e.g.,
+ * for administrative tasks.
+ * 
+ * <pre>
+ * class A implements Dependent {
+ *   Dependency&lt;Admin&gt; admin = new LazyDependency<>(this, Admin.class);
+ * }
+ * </pre>
+ * 
+ * {@link #get()} is thread-safe and lock-free once the target is created. If
+ * the injector is started, the new beans are started before they are returned.
+ * {@link Injector#print()} shows targets not created yet as deferred.
+ * Targets not created before {@link Injector#freeze()} can only be created if
+ * they exist as bean already.
+ *
+ * @param <T> target type
+ */
+public class LazyDependency<T> extends Dependency<T> {
+
+	/**
+	 * Connects the dependent (this) to the target (service), the target is created
+	 * on first {@link #get()}.
+	 * 
+	 * @param d           this (the dependent)
+	 * @param targetClass the target object type (service)
+	 */
+	public LazyDependency(Dependent d, Class<T> targetClass) {
+		super(d, targetClass, true);
+	}
+}
@@ -2,7 +2,9 @@ package coded.dependency.injection;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.StackWalker.StackFrame;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.function.Supplier;
 
 import coded.dependency.injection.internal._WiringHelper;
@@ -13,7 +15,17 @@ import coded.dependency.injection.internal._WiringHelper;
  */
 public class LogBindingAdapter implements LogBindingInterface {
 
+	/**
+	 * Stack frames walked at most to find the caller, the caller of the injection
+	 * API is usually among the top frames.
+	 */
+	protected static final int MAX_CALLER_DEPTH = 64;
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
 	private PrintWriter out;
+	private volatile boolean infoEnabled = true;
+	private final boolean callerHookOverridden = overridesCallerHook(getClass());
 
 	/**
 	 * Override this to customize the log output stream. Default used by
@@ -25,6 +37,20 @@ public class LogBindingAdapter implements LogBindingInterface {
 		this.out = out;
 	}
 
+	/**
+	 * @param infoEnabled false to skip info logs, they are enabled by default
+	 * @return this adapter
+	 */
+	public LogBindingAdapter setInfoEnabled(boolean infoEnabled) {
+		this.infoEnabled = infoEnabled;
+		return this;
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return infoEnabled;
+	}
+
 	/**
 	 * Retrieve first stack element that belongs to Injection API usage code.
 	 * 
@@ -49,13 +75,89 @@ public class LogBindingAdapter implements LogBindingInterface {
 
 	}
 
+	/**
+	 * Like {@link #findUserCodeStackTraceElement(StackTraceElement[])}, but the
+	 * stack of the current thread is walked lazily up to
+	 * {@value #MAX_CALLER_DEPTH} frames, no stack trace is captured. If no frame
+	 * outside this class is found, the last frame walked is returned. If a
+	 * subclass overrides
+	 * {@link #findUserCodeStackTraceElement(StackTraceElement[])} the stack trace
+	 * of the current thread is captured and passed to it instead.
+	 * 
+	 * @return stack trace element using the current injection API, null if no
+	 *         frame was walked
+	 */
+	protected StackTraceElement findCaller() {
+		if (callerHookOverridden) {
+			return findUserCodeStackTraceElement(new Throwable().getStackTrace());
+		}
+		return WALKER.walk(frames -> {
+			Iterator<StackFrame> iterator = frames.limit(MAX_CALLER_DEPTH)
+				.iterator();
+			boolean injectionStackBegin = false;
+			StackFrame caller = null;
+			StackFrame last = null;
+			while (iterator.hasNext()) {
+				StackFrame frame = iterator.next();
+				last = frame;
+				String className = frame.getClassName();
+				if (!injectionStackBegin && className.equals(_WiringHelper.class.getName())
+						|| className.equals(Dependency.class.getName())) {
+					injectionStackBegin = true;
+				}
+				if (injectionStackBegin
+						&& (!className.startsWith(Injector.class.getPackageName()) || isInjectionTest(className))) {
+					return frame.toStackTraceElement();
+				}
+				if (caller == null && !className.equals(LogBindingAdapter.class.getName())) {
+					caller = frame;
+				}
+			}
+			if (caller == null) {
+				caller = last;
+			}
+			return caller != null ? caller.toStackTraceElement() : null;
+		});
+	}
+
+	private static boolean overridesCallerHook(Class<?> clz) {
+		for (Class<?> c = clz; c != LogBindingAdapter.class; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod("findUserCodeStackTraceElement", StackTraceElement[].class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not overridden by this class
+			}
+		}
+		return false;
+	}
+
 	private boolean isInjectionTest(StackTraceElement elem) {
-		return elem.getClassName()
-			.endsWith("Test")
-				|| elem.getClassName()
-					.contains(".fortest.")
-				|| elem.getClassName()
-					.contains(".example.");
+		return isInjectionTest(elem.getClassName());
+	}
+
+	private boolean isInjectionTest(String className) {
+		return className.endsWith("Test") || className.contains(".fortest.") || className.contains(".example.");
+	}
+
+	@Override
+	public void error(String contextName, Supplier<StackTraceElement[]> stack, Supplier<String> msgSupplier) {
+		print("ERROR", contextName, findCaller(), msgSupplier);
+	}
+
+	@Override
+	public void error(String contextName, Supplier<StackTraceElement[]> stack, Supplier<String> msgSupplier,
+			Throwable t) {
+		error(contextName, stack, msgSupplier);
+		write(String.format("%s%n", throwableToString(t)));
+	}
+
+	@Override
+	public void info(String contextName, Supplier<StackTraceElement[]> stack, Supplier<String> msgSupplier) {
+		if (!infoEnabled) {
+			return;
+		}
+		print("INFO", contextName, findCaller(), msgSupplier);
 	}
 
 	@Override
@@ -67,22 +169,41 @@ public class LogBindingAdapter implements LogBindingInterface {
 	@Override
 	public void error(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier, Throwable t) {
 		error(contextName, stack, msgSupplier);
-		out.printf("%s%n", throwableToString(t));
-		out.flush();
+		write(String.format("%s%n", throwableToString(t)));
 	}
 
 	@Override
 	public void info(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier) {
+		if (!infoEnabled) {
+			return;
+		}
 		StackTraceElement stackTraceElement = findUserCodeStackTraceElement(new Throwable().getStackTrace());
 		print("INFO", contextName, stackTraceElement.getFileName(), stackTraceElement.getLineNumber(), msgSupplier);
 	}
 
+	private void print(String level, String contextName, StackTraceElement caller, Supplier<String> msgSupplier) {
+		if (caller == null) {
+			print(level, contextName, null, -1, msgSupplier);
+		} else {
+			print(level, contextName, caller.getFileName(), caller.getLineNumber(), msgSupplier);
+		}
+	}
+
 	protected void print(String level, String contextName, String fileName, int lineNumber,
 			Supplier<String> msgSupplier) {
-		out.printf("%s [%s] injector '%s': %s - thread: %s (%s:%d)%n", new Date(), level, contextName,
+		write(String.format("%s [%s] injector '%s': %s - thread: %s (%s:%d)%n", new Date(), level, contextName,
 				msgSupplier.get(), Thread.currentThread()
 					.getName(),
-				fileName, lineNumber);
+				fileName, lineNumber));
+	}
+
+	/**
+	 * Writes formatted log lines to the output stream and flushes it.
+	 * 
+	 * @param lines one or more lines including line separators
+	 */
+	protected void write(String lines) {
+		out.print(lines);
 		out.flush();
 	}
 
@@ -7,6 +7,12 @@ import java.util.function.Supplier;
  * implementation {@link LogBindingAdapter}. To disable logging set the logger
  * to null with {@link Injector#setLogger(LogBindingInterface)}.
  * 
+ * The {@link Injector} checks the level first and passes the stack as
+ * supplier, with that a disabled level costs nothing and the stack is only
+ * captured if the implementation needs it. The default implementations of
+ * these methods capture the stack and delegate to the methods taking the
+ * stack.
+ * 
  */
 public interface LogBindingInterface {
 
@@ -15,4 +21,31 @@ public interface LogBindingInterface {
 	void error(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier, Throwable t);
 
 	void info(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier);
+
+	/**
+	 * @return false to skip info logs
+	 */
+	default boolean isInfoEnabled() {
+		return true;
+	}
+
+	/**
+	 * @return false to skip error logs
+	 */
+	default boolean isErrorEnabled() {
+		return true;
+	}
+
+	default void error(String contextName, Supplier<StackTraceElement[]> stack, Supplier<String> msgSupplier) {
+		error(contextName, stack.get(), msgSupplier);
+	}
+
+	default void error(String contextName, Supplier<StackTraceElement[]> stack, Supplier<String> msgSupplier,
+			Throwable t) {
+		error(contextName, stack.get(), msgSupplier, t);
+	}
+
+	default void info(String contextName, Supplier<StackTraceElement[]> stack, Supplier<String> msgSupplier) {
+		info(contextName, stack.get(), msgSupplier);
+	}
 }
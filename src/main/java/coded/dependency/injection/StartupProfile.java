@@ -0,0 +1,135 @@
+package coded.dependency.injection;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the construction and start times of the beans of an injector,
+ * see {@link Injector#getStartupProfile()}. Inclusive times contain the
+ * creation or start of dependencies done within the same call, exclusive times
+ * do not. The critical path is the chain of dependencies from a root bean with
+ * the largest sum of exclusive times, it is a lower bound for a parallel
+ * startup.
+ *
+ */
+public class StartupProfile {
+
+	/**
+	 * Times of a single bean in nanoseconds.
+	 */
+	public static class BeanTiming {
+		private final String name;
+		private final long constructionNanos;
+		private final long constructionExclusiveNanos;
+		private final long startNanos;
+		private final long startExclusiveNanos;
+
+		public BeanTiming(String name, long constructionNanos, long constructionExclusiveNanos, long startNanos,
+				long startExclusiveNanos) {
+			this.name = name;
+			this.constructionNanos = constructionNanos;
+			this.constructionExclusiveNanos = constructionExclusiveNanos;
+			this.startNanos = startNanos;
+			this.startExclusiveNanos = startExclusiveNanos;
+		}
+
+		/**
+		 * @return class name of the bean
+		 */
+		public String getName() {
+			return name;
+		}
+
+		public long getConstructionNanos() {
+			return constructionNanos;
+		}
+
+		public long getConstructionExclusiveNanos() {
+			return constructionExclusiveNanos;
+		}
+
+		/**
+		 * @return 0 if the bean was not started by the injector
+		 */
+		public long getStartNanos() {
+			return startNanos;
+		}
+
+		public long getStartExclusiveNanos() {
+			return startExclusiveNanos;
+		}
+
+		/**
+		 * @return exclusive construction and start time
+		 */
+		public long getExclusiveNanos() {
+			return constructionExclusiveNanos + startExclusiveNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: construction %dns (exclusive %dns), start %dns (exclusive %dns)", name,
+					constructionNanos, constructionExclusiveNanos, startNanos, startExclusiveNanos);
+		}
+	}
+
+	private final List<BeanTiming> beans;
+	private final List<BeanTiming> criticalPath;
+
+	public StartupProfile(List<BeanTiming> beans, List<BeanTiming> criticalPath) {
+		this.beans = Collections.unmodifiableList(beans);
+		this.criticalPath = Collections.unmodifiableList(criticalPath);
+	}
+
+	/**
+	 * @return timings of all beans in the order their first measurement finished,
+	 *         i.e., dependencies before their dependents
+	 */
+	public List<BeanTiming> getBeans() {
+		return beans;
+	}
+
+	/**
+	 * @param n maximum number of beans
+	 * @return the n beans with the largest exclusive time, slowest first
+	 */
+	public List<BeanTiming> getSlowest(int n) {
+		return beans.stream()
+			.sorted(Comparator.comparingLong(BeanTiming::getExclusiveNanos)
+				.reversed())
+			.limit(n)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return beans of the critical path, beginning with the root bean
+	 */
+	public List<BeanTiming> getCriticalPath() {
+		return criticalPath;
+	}
+
+	/**
+	 * @return sum of the exclusive times of the critical path
+	 */
+	public long getCriticalPathNanos() {
+		return criticalPath.stream()
+			.mapToLong(BeanTiming::getExclusiveNanos)
+			.sum();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Slowest beans:%n"));
+		for (BeanTiming timing : getSlowest(10)) {
+			report.append(String.format("  %s%n", timing));
+		}
+		report.append(String.format("Critical path (%dns):%n", getCriticalPathNanos()));
+		for (BeanTiming timing : criticalPath) {
+			report.append(String.format("  -> %s%n", timing));
+		}
+		return report.toString();
+	}
+}
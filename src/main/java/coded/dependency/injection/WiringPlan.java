@@ -0,0 +1,214 @@
+package coded.dependency.injection;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolved dependency graph of an injector, see
+ * {@link Injector#getWiringPlan()}. A plan saved by one JVM can be loaded by the
+ * next one to load and initialize the bean classes in the background with
+ * {@link #preload(ClassLoader, Executor)}, while the injector creates the beans.
+ * Class loading and static initializers of independent beans overlap with that.
+ *
+ */
+public class WiringPlan {
+
+	private static final String HEADER = "# jcodeddi wiring plan 2";
+	private static final String HEADER_1 = "# jcodeddi wiring plan 1";
+
+	/**
+	 * A bean of the plan.
+	 */
+	public static class Bean {
+		private final String className;
+		private final long constructionNanos;
+		private final long constructionExclusiveNanos;
+		private final int[] dependencies;
+		private final boolean supplied;
+
+		public Bean(String className, long constructionNanos, long constructionExclusiveNanos, int[] dependencies) {
+			this(className, constructionNanos, constructionExclusiveNanos, dependencies, false);
+		}
+
+		public Bean(String className, long constructionNanos, long constructionExclusiveNanos, int[] dependencies,
+				boolean supplied) {
+			this.className = className;
+			this.constructionNanos = constructionNanos;
+			this.constructionExclusiveNanos = constructionExclusiveNanos;
+			this.dependencies = dependencies.clone();
+			this.supplied = supplied;
+		}
+
+		/**
+		 * @return name of the implementation class
+		 */
+		public String getClassName() {
+			return className;
+		}
+
+		public long getConstructionNanos() {
+			return constructionNanos;
+		}
+
+		public long getConstructionExclusiveNanos() {
+			return constructionExclusiveNanos;
+		}
+
+		/**
+		 * @return indexes of the dependency beans in {@link WiringPlan#getBeans()}
+		 */
+		public int[] getDependencies() {
+			return dependencies.clone();
+		}
+
+		/**
+		 * @return true if the bean was created by a construction supplier defined for
+		 *         its class
+		 */
+		public boolean isSupplied() {
+			return supplied;
+		}
+
+		@Override
+		public String toString() {
+			return className;
+		}
+	}
+
+	private final List<String> roots;
+	private final List<Bean> beans;
+
+	public WiringPlan(List<String> roots, List<Bean> beans) {
+		this.roots = Collections.unmodifiableList(new ArrayList<>(roots));
+		this.beans = Collections.unmodifiableList(new ArrayList<>(beans));
+	}
+
+	/**
+	 * @return class names passed to makeBeans
+	 */
+	public List<String> getRoots() {
+		return roots;
+	}
+
+	/**
+	 * @return beans in the order their construction begins, dependents before
+	 *         their dependencies
+	 */
+	public List<Bean> getBeans() {
+		return beans;
+	}
+
+	/**
+	 * Loads and initializes the bean classes of the plan, every class by a task of
+	 * the executor in the order of {@link #getBeans()}. Classes not found or
+	 * failing to initialize are skipped, the injector reports them when it creates
+	 * the bean.
+	 * 
+	 * @param loader   class loader of the beans
+	 * @param executor runs the class initializations
+	 * @return completes with the number of initialized classes
+	 */
+	public CompletableFuture<Integer> preload(ClassLoader loader, Executor executor) {
+		AtomicInteger initialized = new AtomicInteger();
+		List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		for (Bean bean : beans) {
+			tasks.add(CompletableFuture.runAsync(() -> {
+				try {
+					Class.forName(bean.className, true, loader);
+					initialized.incrementAndGet();
+				} catch (ClassNotFoundException | LinkageError e) {
+					// stale plan
+				}
+			}, executor));
+		}
+		return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+			.thenApply(done -> initialized.get());
+	}
+
+	/**
+	 * Writes the plan as text, one line per root and per bean, beans created by a
+	 * construction supplier are written as supplied.
+	 * 
+	 * @param file the plan file
+	 * @throws IOException if writing fails
+	 */
+	public void save(Path file) throws IOException {
+		try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			out.write(HEADER);
+			out.newLine();
+			for (String root : roots) {
+				out.write("root " + root);
+				out.newLine();
+			}
+			for (Bean bean : beans) {
+				StringBuilder line = new StringBuilder(bean.supplied ? "supplied " : "bean ").append(bean.className)
+					.append(' ')
+					.append(bean.constructionNanos)
+					.append(' ')
+					.append(bean.constructionExclusiveNanos);
+				for (int dependency : bean.dependencies) {
+					line.append(' ')
+						.append(dependency);
+				}
+				out.write(line.toString());
+				out.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Reads a plan written by {@link #save(Path)}.
+	 * 
+	 * @param file the plan file
+	 * @return the plan
+	 * @throws IOException if reading fails or the file is no plan
+	 */
+	public static WiringPlan load(Path file) throws IOException {
+		List<String> roots = new ArrayList<>();
+		List<Bean> beans = new ArrayList<>();
+		try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String header = in.readLine();
+			if (!HEADER.equals(header) && !HEADER_1.equals(header)) {
+				throw new IOException("No wiring plan: " + file);
+			}
+			String line;
+			while ((line = in.readLine()) != null) {
+				String[] parts = line.split(" ");
+				try {
+					if (parts[0].equals("root") && parts.length == 2) {
+						roots.add(parts[1]);
+					} else if ((parts[0].equals("bean") || parts[0].equals("supplied")) && parts.length >= 4) {
+						int[] dependencies = new int[parts.length - 4];
+						for (int i = 0; i < dependencies.length; i++) {
+							dependencies[i] = Integer.parseInt(parts[i + 4]);
+						}
+						beans.add(new Bean(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+								dependencies, parts[0].equals("supplied")));
+					} else {
+						throw new IOException("Invalid line in wiring plan " + file + ": " + line);
+					}
+				} catch (NumberFormatException e) {
+					throw new IOException("Invalid line in wiring plan " + file + ": " + line, e);
+				}
+			}
+		}
+		for (Bean bean : beans) {
+			for (int dependency : bean.dependencies) {
+				if (dependency < 0 || dependency >= beans.size()) {
+					throw new IOException("Invalid dependency of " + bean + " in wiring plan " + file);
+				}
+			}
+		}
+		return new WiringPlan(roots, beans);
+	}
+}
@@ -0,0 +1,11 @@
+package coded.dependency.injection.exception;
+
+public class ContextFrozenException extends IllegalStateException {
+
+	private static final long serialVersionUID = -4305962617730651943L;
+
+	public ContextFrozenException(String msg) {
+		super(msg);
+	}
+
+}
@@ -0,0 +1,29 @@
+package coded.dependency.injection.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Starting or stopping beans failed, see {@link #getBeanNames()} for the
+ * affected beans. Further failures are added as suppressed exceptions.
+ *
+ */
+public class LifecycleException extends RuntimeException {
+
+	private static final long serialVersionUID = 6403829134460178512L;
+
+	private final List<String> beanNames;
+
+	public LifecycleException(String msg, List<String> beanNames, Throwable cause) {
+		super(msg, cause);
+		this.beanNames = Collections.unmodifiableList(beanNames);
+	}
+
+	/**
+	 * @return names of the beans that failed
+	 */
+	public List<String> getBeanNames() {
+		return beanNames;
+	}
+
+}
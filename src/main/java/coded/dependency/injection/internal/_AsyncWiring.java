@@ -0,0 +1,165 @@
+package coded.dependency.injection.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import coded.dependency.injection.Injector;
+
+/**
+ * One asynchronous makeBeans. The beans are created on an executor thread, the
+ * future completes with the injector. If the future is cancelled, times out or
+ * the wiring fails, the beans created by this wiring are discarded. A running
+ * creation is interrupted and no further beans are created.
+ */
+final class _AsyncWiring {
+
+	private static final ThreadLocal<_AsyncWiring> current = new ThreadLocal<>();
+
+	private final _WiringHelper helper;
+	private final Class<?> root;
+	private final CompletableFuture<Injector> future = new CompletableFuture<>();
+	private final List<Integer> createdIds = new ArrayList<>();
+	private final Set<Object> createdObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+	private Thread worker;
+	private boolean workerInterrupted;
+
+	_AsyncWiring(_WiringHelper helper, Class<?> root, Duration timeout) {
+		this.helper = helper;
+		this.root = root;
+		if (timeout != null) {
+			future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		future.whenComplete((injector, failure) -> {
+			if (failure != null) {
+				interruptWorker();
+			}
+		});
+	}
+
+	/**
+	 * @return the wiring of the context run by the current thread, or null
+	 */
+	static _AsyncWiring current(_WiringHelper helper) {
+		_AsyncWiring wiring = current.get();
+		return wiring != null && wiring.helper == helper ? wiring : null;
+	}
+
+	/**
+	 * Binds the wiring to the current thread, null removes the binding.
+	 * 
+	 * @return the previously bound wiring or null
+	 */
+	static _AsyncWiring bind(_AsyncWiring wiring) {
+		_AsyncWiring previous = current.get();
+		if (wiring == null) {
+			current.remove();
+		} else {
+			current.set(wiring);
+		}
+		return previous;
+	}
+
+	CompletableFuture<Injector> getFuture() {
+		return future;
+	}
+
+	void run() {
+		if (!bindWorker()) {
+			return;
+		}
+		try {
+			helper.makeBeansAsync(root, this);
+			if (!future.complete(helper)) {
+				helper.discard(this, true);
+			}
+		} catch (Throwable e) {
+			helper.discard(this, false);
+			future.completeExceptionally(e);
+		} finally {
+			unbindWorker();
+		}
+	}
+
+	/**
+	 * @throws CancellationException if the future is already completed, no
+	 *                               further beans are created then
+	 */
+	void checkNotCancelled() {
+		if (future.isDone()) {
+			throw new CancellationException("Make beans for " + _WiringHelper.getPrintNameOfClass(root)
+					+ " was cancelled or timed out.");
+		}
+	}
+
+	synchronized void created(int id, Object object) {
+		createdIds.add(id);
+		createdObjects.add(object);
+	}
+
+	/**
+	 * @return copy of the ids of the created beans, they are added by the worker
+	 */
+	synchronized List<Integer> getCreatedIds() {
+		return new ArrayList<>(createdIds);
+	}
+
+	/**
+	 * Records a dependent constructed by this wiring, it may not become a bean if
+	 * the wiring is cancelled during its construction.
+	 */
+	synchronized void dependentCreated(Object dependent) {
+		createdObjects.add(dependent);
+	}
+
+	/**
+	 * @return true if the bean or dependent was created by this wiring
+	 */
+	synchronized boolean isCreated(Object object) {
+		return createdObjects.contains(object);
+	}
+
+	/**
+	 * @return copy of the beans and dependents created by this wiring
+	 */
+	synchronized List<Object> getCreatedObjects() {
+		return new ArrayList<>(createdObjects);
+	}
+
+	Class<?> getRoot() {
+		return root;
+	}
+
+	private synchronized boolean bindWorker() {
+		if (future.isDone()) {
+			return false;
+		}
+		worker = Thread.currentThread();
+		return true;
+	}
+
+	private synchronized void unbindWorker() {
+		worker = null;
+		if (workerInterrupted) {
+			// clears the interrupt of the cancellation only, the thread may be pooled
+			Thread.interrupted();
+		}
+	}
+
+	/**
+	 * Interrupts the worker unless it is interrupted already, e.g., by shutdownNow
+	 * of its executor, that interrupt is left to the executor.
+	 */
+	private synchronized void interruptWorker() {
+		if (worker != null && !worker.isInterrupted()) {
+			workerInterrupted = true;
+			worker.interrupt();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package coded.dependency.injection.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a bean creation by its construction supplier or constructor,
+ * the duration includes the creation of dependencies within the same thread.
+ */
+@Name("coded.dependency.injection.BeanConstruction")
+@Label("Bean Construction")
+@Category("Dependency Injection")
+@Description("Creation of a bean by its construction supplier or constructor")
+public class _BeanConstructionEvent extends Event {
+
+	// checked before an event is allocated
+	private static final EventType TYPE = EventType.getEventType(_BeanConstructionEvent.class);
+
+	/**
+	 * The bean under construction on the current thread, maintained only while the
+	 * event is enabled.
+	 */
+	private static final ThreadLocal<Class<?>> constructing = new ThreadLocal<>();
+
+	@Label("Context")
+	String contextName;
+
+	@Label("Bean Class")
+	Class<?> beanClass;
+
+	@Label("Parent Bean Class")
+	@Description("Bean whose construction caused this construction")
+	Class<?> parentBeanClass;
+
+	/**
+	 * @return the begun event or null if the event is disabled
+	 */
+	static _BeanConstructionEvent beginEvent(Class<?> clz) {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		_BeanConstructionEvent event = new _BeanConstructionEvent();
+		return event.begin(clz) ? event : null;
+	}
+
+	/**
+	 * Begins the event if it is enabled.
+	 * 
+	 * @return true if {@link #end(String, Class)} must be called
+	 */
+	boolean begin(Class<?> clz) {
+		if (!isEnabled()) {
+			return false;
+		}
+		parentBeanClass = constructing.get();
+		constructing.set(clz);
+		begin();
+		return true;
+	}
+
+	void end(String contextName, Class<?> clz) {
+		end();
+		if (parentBeanClass == null) {
+			constructing.remove();
+		} else {
+			constructing.set(parentBeanClass);
+		}
+		if (shouldCommit()) {
+			this.contextName = contextName;
+			this.beanClass = clz;
+			commit();
+		}
+	}
+}
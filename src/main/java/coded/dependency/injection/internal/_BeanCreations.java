@@ -0,0 +1,178 @@
+package coded.dependency.injection.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import coded.dependency.injection.exception.CyclicDependencyException;
+
+/**
+ * Bean creations in progress of a context. A bean is created by the first
+ * scope asking for it, further scopes wait for its future without holding a
+ * lock. A scope is a thread running creations, or a task handed off by a
+ * creation to another thread, see {@link #runHandedOff(Scope, Runnable)}. A
+ * creation is assumed to wait for its running hand-offs. A scope asking for a
+ * bean it creates itself, or waiting for a creation whose scope waits for this
+ * scope, closes a dependency cycle.
+ */
+final class _BeanCreations {
+
+	private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+	private final Map<Class<?>, Creation> running = new ConcurrentHashMap<>();
+	private final Map<Scope, Creation> waiting = new HashMap<>();
+
+	/**
+	 * @return the scope of the creations run by the current thread, or null
+	 */
+	static Scope currentScope() {
+		return currentScope.get();
+	}
+
+	/**
+	 * Runs a task handed off by a creation of the given scope, the creation waits
+	 * for it until it has finished.
+	 *
+	 * @param from scope of the handing thread, null if it runs no creation
+	 */
+	static void runHandedOff(Scope from, Runnable task) {
+		if (from == null) {
+			task.run();
+			return;
+		}
+		Scope previous = currentScope.get();
+		Scope scope = new Scope();
+		from.handOffs.add(scope);
+		currentScope.set(scope);
+		try {
+			task.run();
+		} finally {
+			from.handOffs.remove(scope);
+			restore(previous);
+		}
+	}
+
+	private static void restore(Scope previous) {
+		if (previous == null) {
+			currentScope.remove();
+		} else {
+			currentScope.set(previous);
+		}
+	}
+
+	/**
+	 * Runs the creator unless another scope runs it for the class already, then
+	 * its result is awaited.
+	 *
+	 * @param clz     the bean class
+	 * @param creator creates the bean, it must return an existing bean first
+	 * @return the bean
+	 * @throws CyclicDependencyException if the bean is created by this scope or by
+	 *                                   a scope waiting for this scope
+	 */
+	Object create(Class<?> clz, Callable<Object> creator) throws Exception {
+		Scope scope = currentScope.get();
+		boolean outermost = scope == null;
+		if (outermost) {
+			scope = new Scope();
+			currentScope.set(scope);
+		}
+		try {
+			Creation creation = new Creation(scope);
+			Creation first = running.putIfAbsent(clz, creation);
+			if (first != null) {
+				return await(clz, first, scope);
+			}
+			try {
+				Object object = creator.call();
+				creation.result.complete(object);
+				return object;
+			} catch (Throwable t) {
+				creation.result.completeExceptionally(t);
+				throw t;
+			} finally {
+				running.remove(clz, creation);
+			}
+		} finally {
+			if (outermost) {
+				currentScope.remove();
+			}
+		}
+	}
+
+	private Object await(Class<?> clz, Creation first, Scope current) throws Exception {
+		synchronized (waiting) {
+			if (closesCycle(first, current)) {
+				throw new CyclicDependencyException("Cyclic dependency to " + _WiringHelper.getPrintNameOfClass(clz));
+			}
+			waiting.put(current, first);
+		}
+		try {
+			return first.result.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		} finally {
+			synchronized (waiting) {
+				waiting.remove(current);
+			}
+		}
+	}
+
+	/**
+	 * Follows the waits of the owner of the creation and of its running hand-offs.
+	 *
+	 * @return true if the current scope is reached
+	 */
+	private boolean closesCycle(Creation first, Scope current) {
+		Set<Scope> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Scope> open = new ArrayDeque<>();
+		open.push(first.owner);
+		while (!open.isEmpty()) {
+			Scope scope = open.pop();
+			if (scope == current) {
+				return true;
+			}
+			if (visited.add(scope)) {
+				Creation awaited = waiting.get(scope);
+				if (awaited != null) {
+					open.push(awaited.owner);
+				}
+				for (Scope handOff : scope.handOffs) {
+					open.push(handOff);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Creations of a thread or of a handed off task.
+	 */
+	static final class Scope {
+		// running tasks handed off by creations of this scope
+		final Set<Scope> handOffs = ConcurrentHashMap.newKeySet();
+	}
+
+	private static final class Creation {
+		final Scope owner;
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+
+		Creation(Scope owner) {
+			this.owner = owner;
+		}
+	}
+}
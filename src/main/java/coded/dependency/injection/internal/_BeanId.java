@@ -0,0 +1,41 @@
+package coded.dependency.injection.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Global registry of bean ids. Every class used as bean type gets a unique id
+ * on first use, it is the key of the {@link _BeanTable}s of all contexts. The
+ * lookup neither hashes the class name nor allocates.
+ */
+final class _BeanId {
+
+	private static final AtomicInteger nextId = new AtomicInteger();
+
+	// reverse lookup, weak to not prevent class unloading
+	private static final _BeanTable<WeakReference<Class<?>>> classes = new _BeanTable<>();
+
+	private static final ClassValue<Integer> ids = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			int id = nextId.getAndIncrement();
+			classes.put(id, new WeakReference<>(type));
+			return id;
+		}
+	};
+
+	private _BeanId() {
+	}
+
+	static int of(Class<?> clz) {
+		return ids.get(clz);
+	}
+
+	/**
+	 * @return the class of the id or null if it was unloaded
+	 */
+	static Class<?> classOf(int id) {
+		WeakReference<Class<?>> clz = classes.get(id);
+		return clz != null ? clz.get() : null;
+	}
+}
@@ -0,0 +1,56 @@
+package coded.dependency.injection.internal;
+
+/**
+ * Thread-safe set of {@link _BeanId}s, e.g., of the started beans of a context.
+ * The ids are bits of a long array indexed by the id, an empty set holds no
+ * array. Reads are lock-free, writes copy the array, they are rare, e.g., once
+ * per bean start.
+ */
+final class _BeanIdSet {
+
+	private static final long[] EMPTY = new long[0];
+
+	private volatile long[] words = EMPTY;
+	// guarded by this
+	private int count;
+
+	/**
+	 * @return false if the id is contained already
+	 */
+	synchronized boolean add(int id) {
+		if (contains(id)) {
+			return false;
+		}
+		long[] current = words;
+		long[] copy = new long[Math.max(current.length, (id >>> 6) + 1)];
+		System.arraycopy(current, 0, copy, 0, current.length);
+		copy[id >>> 6] |= 1L << id;
+		words = copy;
+		count++;
+		return true;
+	}
+
+	synchronized void remove(int id) {
+		if (!contains(id)) {
+			return;
+		}
+		count--;
+		if (count == 0) {
+			words = EMPTY;
+			return;
+		}
+		long[] copy = words.clone();
+		copy[id >>> 6] &= ~(1L << id);
+		words = copy;
+	}
+
+	boolean contains(int id) {
+		long[] current = words;
+		int index = id >>> 6;
+		return index < current.length && (current[index] & (1L << id)) != 0;
+	}
+
+	boolean isEmpty() {
+		return words == EMPTY;
+	}
+}
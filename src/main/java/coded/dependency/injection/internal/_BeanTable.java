@@ -0,0 +1,175 @@
+package coded.dependency.injection.internal;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Values of a context keyed by {@link _BeanId}. The table is an open addressing
+ * hash table, its size depends on the number of keys put into it, not on the
+ * number of bean ids of all contexts, an empty table holds no slots. Reads are
+ * lock-free and safe from any thread, a key is published after its value.
+ * Writes are serialized and grow the table if needed.
+ *
+ * @param <V> value type
+ */
+final class _BeanTable<V> {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * Slots of the table, at most half of them are used. A key is never removed
+	 * from its slot, a removed value leaves a null value.
+	 */
+	private static final class Slots<V> {
+		// bean id + 1, 0 for a free slot
+		final AtomicIntegerArray keys;
+		final AtomicReferenceArray<V> values;
+
+		Slots(int length) {
+			keys = new AtomicIntegerArray(length);
+			values = new AtomicReferenceArray<>(length);
+		}
+
+		/**
+		 * @param capacity number of keys held without growing
+		 */
+		static <V> Slots<V> forCapacity(int capacity) {
+			return new Slots<>(Integer.highestOneBit(Math.max(capacity, INITIAL_CAPACITY) * 2 - 1) * 2);
+		}
+
+		/**
+		 * @return slot of the id or the free slot to insert it, -1 if there are no
+		 *         slots
+		 */
+		int indexOf(int id) {
+			if (keys.length() == 0) {
+				return -1;
+			}
+			int mask = keys.length() - 1;
+			int h = id * 0x9E3779B9;
+			for (int i = (h ^ (h >>> 16)) & mask;; i = (i + 1) & mask) {
+				int key = keys.get(i);
+				if (key == id + 1 || key == 0) {
+					return i;
+				}
+			}
+		}
+	}
+
+	// shared by empty tables, the slots are allocated by the first put
+	@SuppressWarnings("rawtypes")
+	private static final Slots NONE = new Slots<>(0);
+
+	private volatile Slots<V> slots;
+	// guarded by this
+	private int keyCount;
+	private volatile int count;
+
+	@SuppressWarnings("unchecked")
+	_BeanTable() {
+		slots = NONE;
+	}
+
+	/**
+	 * @param capacity number of keys held without growing
+	 */
+	_BeanTable(int capacity) {
+		slots = Slots.forCapacity(capacity);
+	}
+
+	V get(int id) {
+		Slots<V> current = slots;
+		int i = current.indexOf(id);
+		return i >= 0 && current.keys.get(i) != 0 ? current.values.get(i) : null;
+	}
+
+	synchronized void put(int id, V value) {
+		Slots<V> current = slots;
+		int i = current.indexOf(id);
+		if (i >= 0 && current.keys.get(i) != 0) {
+			V previous = current.values.getAndSet(i, value);
+			if (previous == null && value != null) {
+				count++;
+			} else if (previous != null && value == null) {
+				count--;
+			}
+		} else if (value != null) {
+			if ((keyCount + 1) * 2 > current.keys.length()) {
+				current = grow(current);
+				i = current.indexOf(id);
+			}
+			current.values.set(i, value);
+			current.keys.set(i, id + 1);
+			keyCount++;
+			count++;
+		}
+	}
+
+	/**
+	 * Moves the keys with values to new slots, twice as many unless most values
+	 * were removed. Keys of removed values are dropped.
+	 */
+	private Slots<V> grow(Slots<V> current) {
+		int capacity = current.keys.length() / 2;
+		Slots<V> grown = Slots.forCapacity(count + 1 > capacity / 2 ? capacity * 2 : capacity);
+		int keys = 0;
+		for (int i = 0; i < current.keys.length(); i++) {
+			V value = current.values.get(i);
+			if (value != null) {
+				int key = current.keys.get(i);
+				int j = grown.indexOf(key - 1);
+				grown.values.set(j, value);
+				grown.keys.set(j, key);
+				keys++;
+			}
+		}
+		keyCount = keys;
+		slots = grown;
+		return grown;
+	}
+
+	/**
+	 * Calls the action for every value and its id, weakly consistent with
+	 * concurrent writes.
+	 */
+	void forEach(ObjIntConsumer<V> action) {
+		Slots<V> current = slots;
+		for (int i = 0; i < current.keys.length(); i++) {
+			V value = current.values.get(i);
+			int key = current.keys.get(i);
+			if (value != null && key != 0) {
+				action.accept(value, key - 1);
+			}
+		}
+	}
+
+	/**
+	 * @return number of values
+	 */
+	int count() {
+		return count;
+	}
+
+	/**
+	 * @return new table with the same values
+	 */
+	synchronized _BeanTable<V> copy() {
+		Slots<V> current = slots;
+		_BeanTable<V> copy = new _BeanTable<>(Math.max(count, INITIAL_CAPACITY));
+		for (int i = 0; i < current.keys.length(); i++) {
+			V value = current.values.get(i);
+			if (value != null) {
+				copy.put(current.keys.get(i) - 1, value);
+			}
+		}
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	synchronized void clear() {
+		slots = NONE;
+		keyCount = 0;
+		count = 0;
+	}
+}
@@ -0,0 +1,118 @@
+package coded.dependency.injection.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Evicts contexts of the registry in a background thread, either idle contexts
+ * or the least recently accessed ones if there are too many. An evicted context
+ * is removed from the registry first and stopped afterwards if it was started.
+ * Idle time and running makeBeans are checked again within the removal of the
+ * registry entry, a context accessed meanwhile is kept. A parent context is kept
+ * while it has registered children, they resolve beans from it.
+ */
+final class _ContextEviction {
+
+	private static final long MIN_SWEEP_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final Map<String, _WiringHelper> contexts;
+	private final long idleTimeoutNanos;
+	private final int maximumSize;
+	private final ScheduledExecutorService scheduler;
+	private final AtomicBoolean sweepPending = new AtomicBoolean();
+
+	/**
+	 * @param contexts    the registry
+	 * @param idleTimeout null for no idle eviction
+	 * @param maximumSize 0 for no size bound
+	 */
+	_ContextEviction(Map<String, _WiringHelper> contexts, Duration idleTimeout, int maximumSize) {
+		this.contexts = contexts;
+		this.idleTimeoutNanos = idleTimeout == null ? 0 : idleTimeout.toNanos();
+		this.maximumSize = maximumSize;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "injector-eviction");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (idleTimeoutNanos > 0) {
+			long period = Math.max(idleTimeoutNanos / 4, MIN_SWEEP_PERIOD_NANOS);
+			scheduler.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Schedules a sweep if the registry exceeds the maximum size, never blocks.
+	 */
+	void contextCreated() {
+		if (maximumSize > 0 && contexts.size() > maximumSize && sweepPending.compareAndSet(false, true)) {
+			scheduler.execute(() -> {
+				sweepPending.set(false);
+				sweep();
+			});
+		}
+	}
+
+	void shutdown() {
+		scheduler.shutdown();
+	}
+
+	private void sweep() {
+		long now = System.nanoTime();
+		List<Entry<Long, _WiringHelper>> candidates = new ArrayList<>();
+		for (_WiringHelper context : contexts.values()) {
+			if (context.isMakingBeans() || context.hasLiveChildren()) {
+				continue;
+			}
+			long idle = now - context.getLastAccess();
+			if (idleTimeoutNanos > 0 && idle > idleTimeoutNanos) {
+				evict(context, c -> System.nanoTime() - c.getLastAccess() > idleTimeoutNanos,
+						() -> "Evicted after " + TimeUnit.NANOSECONDS.toMillis(idle) + "ms idle time.");
+			} else {
+				candidates.add(Map.entry(context.getLastAccess(), context));
+			}
+		}
+		int excess = contexts.size() - maximumSize;
+		if (maximumSize > 0 && excess > 0) {
+			candidates.sort((e1, e2) -> Long.compare(e1.getKey() - now, e2.getKey() - now));
+			for (int i = 0; i < excess && i < candidates.size(); i++) {
+				long lastAccess = candidates.get(i)
+					.getKey();
+				evict(candidates.get(i)
+					.getValue(), c -> c.getLastAccess() == lastAccess,
+						() -> "Evicted, more than " + maximumSize + " contexts.");
+			}
+		}
+	}
+
+	/**
+	 * Removes the context if it is still registered, not making beans, has no
+	 * registered children and the condition holds, all checked atomically with the
+	 * removal.
+	 */
+	private void evict(_WiringHelper context, Predicate<_WiringHelper> condition, Supplier<String> reason) {
+		boolean[] evicted = new boolean[1];
+		contexts.computeIfPresent(context.getName(), (name, current) -> {
+			if (current != context || current.isMakingBeans() || current.hasLiveChildren()
+					|| !condition.test(current)) {
+				return current;
+			}
+			evicted[0] = true;
+			return null;
+		});
+		if (evicted[0]) {
+			context.loginfo(_ContextEviction.class, reason);
+			context.removed();
+			context.stopEvicted();
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package coded.dependency.injection.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Dependency edges of a context as int adjacency arrays. A row holds the bean
+ * ids of the targets of one dependent, the rows of the dependents of a class are
+ * chained and indexed by the bean id of the class. The target id of a
+ * {@link coded.dependency.injection.LazyDependency} is stored complemented. Dependents are compared by identity, their
+ * {@code equals} and {@code hashCode} are not used, and the
+ * {@link coded.dependency.injection.Dependency} proxies are not referenced.
+ */
+final class _DependencyGraph {
+
+	static final int[] NONE = new int[0];
+
+	private static final class Row {
+		final Object dependent;
+		// row of another dependent of the same class, unlinked under the rows lock
+		volatile Row next;
+		volatile int[] targets = NONE;
+
+		Row(Object dependent, Row next) {
+			this.dependent = dependent;
+			this.next = next;
+		}
+	}
+
+	private final _BeanTable<Row> rows = new _BeanTable<>();
+	private final AtomicInteger count = new AtomicInteger();
+
+	/**
+	 * Adds an edge, the rows of other dependents of the same class are kept, e.g.,
+	 * of anonymous clients. The edges of a dependent are added by the thread
+	 * constructing it.
+	 */
+	void add(Object dependent, int targetId, boolean lazy) {
+		int id = _BeanId.of(dependent.getClass());
+		Row row = find(rows.get(id), dependent);
+		if (row == null) {
+			synchronized (rows) {
+				Row first = rows.get(id);
+				row = find(first, dependent);
+				if (row == null) {
+					row = new Row(dependent, first);
+					rows.put(id, row);
+					count.incrementAndGet();
+				}
+			}
+		}
+		synchronized (row) {
+			int[] targets = Arrays.copyOf(row.targets, row.targets.length + 1);
+			targets[targets.length - 1] = lazy ? ~targetId : targetId;
+			row.targets = targets;
+		}
+	}
+
+	/**
+	 * @return encoded target ids, see {@link #isLazy(int)} and {@link #idOf(int)},
+	 *         or null if the dependent is unknown
+	 */
+	int[] targets(Object dependent) {
+		Row row = find(rows.get(_BeanId.of(dependent.getClass())), dependent);
+		return row != null ? row.targets : null;
+	}
+
+	private static Row find(Row first, Object dependent) {
+		for (Row row = first; row != null; row = row.next) {
+			if (row.dependent == dependent) {
+				return row;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the row of the dependent, the rows of other dependents of the same
+	 * class are kept.
+	 */
+	void remove(Object dependent) {
+		int id = _BeanId.of(dependent.getClass());
+		synchronized (rows) {
+			Row previous = null;
+			for (Row row = rows.get(id); row != null; previous = row, row = row.next) {
+				if (row.dependent == dependent) {
+					if (previous == null) {
+						rows.put(id, row.next);
+					} else {
+						previous.next = row.next;
+					}
+					count.decrementAndGet();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calls the action for every dependent with its encoded target ids, weakly
+	 * consistent with concurrent additions.
+	 */
+	void forEach(BiConsumer<Object, int[]> action) {
+		rows.forEach((first, id) -> {
+			for (Row row = first; row != null; row = row.next) {
+				action.accept(row.dependent, row.targets);
+			}
+		});
+	}
+
+	/**
+	 * @return number of dependents
+	 */
+	int count() {
+		return count.get();
+	}
+
+	static boolean isLazy(int target) {
+		return target < 0;
+	}
+
+	static int idOf(int target) {
+		return target < 0 ? ~target : target;
+	}
+}
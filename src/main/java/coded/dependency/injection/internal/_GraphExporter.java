@@ -0,0 +1,200 @@
+package coded.dependency.injection.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import coded.dependency.injection.GraphFormat;
+import coded.dependency.injection.StartupProfile.BeanTiming;
+
+/**
+ * Writes the dependency graph of a context as DOT or JSON. The graph is
+ * traversed iteratively twice, first to write every bean once as node and then
+ * to write every dependency once as edge. Memory is linear in the number of
+ * beans, the exporter does not share state with other exports.
+ */
+final class _GraphExporter {
+
+	private final _WiringHelper helper;
+	private final Writer out;
+	private final GraphFormat format;
+	private final boolean withTimings;
+	private final Map<Object, Integer> ids = new IdentityHashMap<>();
+	// bean ids of the targets of deferred or unresolved dependencies
+	private final Map<Integer, Integer> missingIds = new HashMap<>();
+	private final List<Object> beans = new ArrayList<>();
+	private boolean first = true;
+
+	_GraphExporter(_WiringHelper helper, Writer out, GraphFormat format, boolean withTimings) {
+		this.helper = helper;
+		this.out = out;
+		this.format = format;
+		this.withTimings = withTimings;
+	}
+
+	void export(List<Object> roots) throws IOException {
+		if (format == GraphFormat.DOT) {
+			out.write("digraph \"" + escapeDot(helper.getName()) + "\" {\n");
+		} else {
+			out.write("{\"context\":\"" + escapeJson(helper.getName()) + "\",\"nodes\":[");
+		}
+		Deque<Object> open = new ArrayDeque<>();
+		for (Object root : roots) {
+			if (!ids.containsKey(root)) {
+				writeBean(root, true);
+				open.push(root);
+			}
+		}
+		while (!open.isEmpty()) {
+			for (int dep : helper.getDependencyIds(open.pop())) {
+				Object target = helper.getTarget(dep);
+				if (target == null) {
+					if (!missingIds.containsKey(_DependencyGraph.idOf(dep))) {
+						writeMissing(dep);
+					}
+				} else if (!ids.containsKey(target)) {
+					writeBean(target, false);
+					open.push(target);
+				}
+			}
+		}
+		if (format == GraphFormat.JSON) {
+			out.write("],\"edges\":[");
+		}
+		first = true;
+		// targets of the edges written for the current bean, a bean may hold several
+		// dependencies of the same type
+		Set<Integer> targets = new HashSet<>();
+		for (int i = 0; i < beans.size(); i++) {
+			targets.clear();
+			for (int dep : helper.getDependencyIds(beans.get(i))) {
+				writeEdge(i, dep, targets);
+			}
+		}
+		out.write(format == GraphFormat.DOT ? "}\n" : "]}\n");
+		out.flush();
+	}
+
+	private void writeBean(Object bean, boolean root) throws IOException {
+		int id = ids.size() + missingIds.size();
+		ids.put(bean, id);
+		beans.add(bean);
+		Class<?> clz = bean.getClass();
+		BeanTiming timing = withTimings ? helper.getBeanTiming(bean) : null;
+		if (format == GraphFormat.DOT) {
+			StringBuilder label = new StringBuilder(escapeDot(clz.getSimpleName()));
+			if (timing != null) {
+				label.append("\\nconstruction ")
+					.append(timing.getConstructionNanos())
+					.append("ns\\nstart ")
+					.append(timing.getStartNanos())
+					.append("ns");
+			}
+			out.write("  n" + id + " [label=\"" + label + "\", tooltip=\"" + escapeDot(clz.getName()) + "\""
+					+ (root ? ", shape=box" : "") + "];\n");
+			return;
+		}
+		separate();
+		out.write("{\"id\":" + id + ",\"name\":\"" + escapeJson(clz.getSimpleName()) + "\",\"class\":\""
+				+ escapeJson(clz.getName()) + "\"");
+		if (root) {
+			out.write(",\"root\":true");
+		}
+		if (timing != null) {
+			out.write(",\"constructionNanos\":" + timing.getConstructionNanos() + ",\"constructionExclusiveNanos\":"
+					+ timing.getConstructionExclusiveNanos() + ",\"startNanos\":" + timing.getStartNanos()
+					+ ",\"startExclusiveNanos\":" + timing.getStartExclusiveNanos());
+		}
+		out.write("}");
+	}
+
+	private void writeMissing(int dep) throws IOException {
+		int id = ids.size() + missingIds.size();
+		missingIds.put(_DependencyGraph.idOf(dep), id);
+		Class<?> clz = _BeanId.classOf(_DependencyGraph.idOf(dep));
+		String className = clz != null ? clz.getName() : _WiringHelper.getTargetClassName(dep);
+		String simpleName = clz != null ? clz.getSimpleName() : className;
+		String state = _DependencyGraph.isLazy(dep) ? "deferred" : "unresolved";
+		if (format == GraphFormat.DOT) {
+			out.write("  n" + id + " [label=\"" + escapeDot(simpleName) + "\\n" + state + "\", tooltip=\""
+					+ escapeDot(className) + "\", style=dashed];\n");
+			return;
+		}
+		separate();
+		out.write("{\"id\":" + id + ",\"name\":\"" + escapeJson(simpleName) + "\",\"class\":\"" + escapeJson(className)
+				+ "\",\"state\":\"" + state + "\"}");
+	}
+
+	private void writeEdge(int from, int dep, Set<Integer> targets) throws IOException {
+		Object target = helper.getTarget(dep);
+		Integer to = target == null ? null : ids.get(target);
+		boolean missing = to == null;
+		if (missing) {
+			to = missingIds.get(_DependencyGraph.idOf(dep));
+			if (to == null) {
+				// resolved concurrently after the nodes were written
+				return;
+			}
+		}
+		if (!targets.add(to)) {
+			return;
+		}
+		if (format == GraphFormat.DOT) {
+			out.write("  n" + from + " -> n" + to + (missing ? " [style=dashed];\n" : ";\n"));
+			return;
+		}
+		separate();
+		out.write("{\"from\":" + from + ",\"to\":" + to + "}");
+	}
+
+	private void separate() throws IOException {
+		if (first) {
+			first = false;
+		} else {
+			out.write(",");
+		}
+	}
+
+	/**
+	 * Escapes a string for a quoted DOT id, other characters are written as they
+	 * are, DOT has no escapes for control characters.
+	 */
+	static String escapeDot(String s) {
+		StringBuilder escaped = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\\') {
+				escaped.append('\\');
+			}
+			escaped.append(c);
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * Escapes a string for a JSON string.
+	 */
+	static String escapeJson(String s) {
+		StringBuilder escaped = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\\') {
+				escaped.append('\\')
+					.append(c);
+			} else if (c < 0x20) {
+				escaped.append(String.format("\\u%04x", (int) c));
+			} else {
+				escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+}
@@ -0,0 +1,55 @@
+package coded.dependency.injection.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a {@link coded.dependency.injection.Dependency} creation, the
+ * duration includes the creation of the target if needed.
+ */
+@Name("coded.dependency.injection.Injection")
+@Label("Injection")
+@Category("Dependency Injection")
+@Description("Injection of a bean into a dependent")
+public class _InjectionEvent extends Event {
+
+	// checked before an event is allocated
+	private static final EventType TYPE = EventType.getEventType(_InjectionEvent.class);
+
+	@Label("Context")
+	String contextName;
+
+	@Label("Bean Class")
+	@Description("Target class of the dependency")
+	Class<?> beanClass;
+
+	@Label("Parent Bean Class")
+	@Description("The dependent")
+	Class<?> parentBeanClass;
+
+	/**
+	 * @return the begun event or null if the event is disabled
+	 */
+	static _InjectionEvent beginEvent() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		_InjectionEvent event = new _InjectionEvent();
+		event.begin();
+		return event;
+	}
+
+	void end(_WiringHelper helper, Class<?> targetClass, Object dependent) {
+		end();
+		if (shouldCommit()) {
+			contextName = helper.getName();
+			beanClass = targetClass;
+			parentBeanClass = dependent == null ? null : dependent.getClass();
+			commit();
+		}
+	}
+}
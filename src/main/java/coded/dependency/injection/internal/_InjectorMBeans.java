@@ -0,0 +1,142 @@
+package coded.dependency.injection.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import coded.dependency.injection.InjectorsMXBean;
+
+/**
+ * Registration of the MBeans at the platform MBean server. Only loaded if MBeans
+ * are enabled, see {@link _InjectorMetrics#MBEANS_AVAILABLE}.
+ */
+final class _InjectorMBeans {
+
+	static final String DOMAIN = "coded.dependency.injection";
+
+	// registered MBeans by name, guards the registrations
+	private static final Map<ObjectName, _InjectorMetrics> registered = new HashMap<>();
+
+	private _InjectorMBeans() {
+	}
+
+	static ObjectName objectName(String contextName) throws JMException {
+		return new ObjectName(DOMAIN + ":type=Injector,name=" + ObjectName.quote(contextName));
+	}
+
+	static ObjectName aggregateObjectName() throws JMException {
+		return new ObjectName(DOMAIN + ":type=Injectors");
+	}
+
+	/**
+	 * Registers the MBean of the context, an MBean of a previous context with the
+	 * same name is replaced.
+	 */
+	static void register(_InjectorMetrics metrics, _WiringHelper helper) {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName name = objectName(helper.getName());
+			synchronized (registered) {
+				try {
+					server.registerMBean(metrics, name);
+				} catch (InstanceAlreadyExistsException e) {
+					unregister(name);
+					server.registerMBean(metrics, name);
+				}
+				registered.put(name, metrics);
+			}
+		} catch (JMException e) {
+			helper.logerror(_WiringHelper.class, () -> "Registration of MBean failed: " + e, e);
+		}
+	}
+
+	/**
+	 * Unregisters the MBean of the context unless it was replaced by the MBean of
+	 * a newer context with the same name.
+	 */
+	static void unregister(_InjectorMetrics metrics, _WiringHelper helper) {
+		try {
+			ObjectName name = objectName(helper.getName());
+			synchronized (registered) {
+				if (registered.remove(name, metrics)) {
+					unregister(name);
+				}
+			}
+		} catch (JMException e) {
+			helper.logerror(_WiringHelper.class, () -> "Unregistration of MBean failed: " + e, e);
+		}
+	}
+
+	private static void unregister(ObjectName name) throws JMException {
+		try {
+			ManagementFactory.getPlatformMBeanServer()
+				.unregisterMBean(name);
+		} catch (InstanceNotFoundException e) {
+			// not registered
+		}
+	}
+
+	/**
+	 * @param contexts the registry, null unregisters the aggregate MBean
+	 * @throws IllegalStateException if the registration fails
+	 */
+	static void setAggregate(Map<String, _WiringHelper> contexts) {
+		try {
+			ObjectName name = aggregateObjectName();
+			unregister(name);
+			if (contexts != null) {
+				ManagementFactory.getPlatformMBeanServer()
+					.registerMBean(aggregate(contexts), name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Registration of the injectors MBean failed", e);
+		}
+	}
+
+	private static InjectorsMXBean aggregate(Map<String, _WiringHelper> contexts) {
+		return new InjectorsMXBean() {
+			@Override
+			public int getContextCount() {
+				return contexts.size();
+			}
+
+			@Override
+			public long getConstructionCount() {
+				return sum(contexts, _InjectorMetrics::getConstructionCount);
+			}
+
+			@Override
+			public long getConstructionTimeNanos() {
+				return sum(contexts, _InjectorMetrics::getConstructionTimeNanos);
+			}
+
+			@Override
+			public long getBeanHitCount() {
+				return sum(contexts, _InjectorMetrics::getBeanHitCount);
+			}
+
+			@Override
+			public long getBeanMissCount() {
+				return sum(contexts, _InjectorMetrics::getBeanMissCount);
+			}
+		};
+	}
+
+	private static long sum(Map<String, _WiringHelper> contexts, ToLongFunction<_InjectorMetrics> counter) {
+		long sum = 0;
+		for (_WiringHelper context : contexts.values()) {
+			_InjectorMetrics metrics = context.getMetrics();
+			if (metrics != null) {
+				sum += counter.applyAsLong(metrics);
+			}
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,82 @@
+package coded.dependency.injection.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import coded.dependency.injection.InjectorMXBean;
+
+/**
+ * Counters of a context and its MBean. The metrics are created when the MBean
+ * is registered and dropped when it is unregistered, a context holds none while
+ * MBeans are disabled. The counters are striped. The totals of all contexts are summed on read. The
+ * MBean is registered by {@link _InjectorMBeans}, this class does not depend on
+ * the module java.management.
+ */
+final class _InjectorMetrics implements InjectorMXBean {
+
+	static final boolean MBEANS_AVAILABLE = ModuleLayer.boot()
+		.findModule("java.management")
+		.isPresent();
+
+	private final _WiringHelper helper;
+	private final LongAdder constructions = new LongAdder();
+	private final LongAdder constructionNanos = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	_InjectorMetrics(_WiringHelper helper) {
+		this.helper = helper;
+	}
+
+	void constructed(long nanos) {
+		constructions.increment();
+		constructionNanos.add(nanos);
+	}
+
+	void hit() {
+		hits.increment();
+	}
+
+	void miss() {
+		misses.increment();
+	}
+
+	@Override
+	public String getName() {
+		return helper.getName();
+	}
+
+	@Override
+	public int getBeanCount() {
+		return helper.getBeanCount();
+	}
+
+	@Override
+	public long getConstructionCount() {
+		return constructions.sum();
+	}
+
+	@Override
+	public long getConstructionTimeNanos() {
+		return constructionNanos.sum();
+	}
+
+	@Override
+	public long getBeanHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getBeanMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public String getLifecycleState() {
+		return helper.getLifecycleState();
+	}
+
+	@Override
+	public boolean isFrozen() {
+		return helper.isFrozen();
+	}
+}
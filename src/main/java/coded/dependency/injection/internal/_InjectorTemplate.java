@@ -0,0 +1,76 @@
+package coded.dependency.injection.internal;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import coded.dependency.injection.InjectorTemplate;
+import coded.dependency.injection.LogBindingInterface;
+
+public class _InjectorTemplate implements InjectorTemplate {
+
+	private volatile _BeanTable<Supplier<?>> constructionTable = new _BeanTable<>();
+	private volatile boolean constructionShared;
+	private volatile Optional<LogBindingInterface> logger;
+	private volatile boolean profilingEnabled;
+	// default constructors of beans without construction supplier, resolved once
+	private final _BeanTable<Constructor<?>> constructors = new _BeanTable<>();
+
+	@Override
+	public synchronized <T> InjectorTemplate defineConstruction(Class<? super T> clz,
+			Supplier<? super T> construction) {
+		if (construction != null) {
+			if (constructionShared) {
+				constructionTable = constructionTable.copy();
+				constructionShared = false;
+			}
+			constructionTable.put(_BeanId.of(clz), construction);
+		}
+		return this;
+	}
+
+	@Override
+	public InjectorTemplate setLogger(LogBindingInterface logger) {
+		this.logger = Optional.ofNullable(logger);
+		return this;
+	}
+
+	@Override
+	public InjectorTemplate setProfilingEnabled(boolean enabled) {
+		this.profilingEnabled = enabled;
+		return this;
+	}
+
+	/**
+	 * @return the construction table, it must not be modified by the caller
+	 */
+	synchronized _BeanTable<Supplier<?>> shareConstructions() {
+		constructionShared = true;
+		return constructionTable;
+	}
+
+	/**
+	 * @return the shared logger or null if not set
+	 */
+	Optional<LogBindingInterface> getLogger() {
+		return logger;
+	}
+
+	boolean isProfilingEnabled() {
+		return profilingEnabled;
+	}
+
+	/**
+	 * @return the default constructor of the class, looked up once for all
+	 *         contexts created from this template
+	 */
+	Constructor<?> getConstructor(Class<?> clz) throws NoSuchMethodException {
+		int id = _BeanId.of(clz);
+		Constructor<?> constructor = constructors.get(id);
+		if (constructor == null) {
+			constructor = clz.getDeclaredConstructor();
+			constructors.put(id, constructor);
+		}
+		return constructor;
+	}
+}
@@ -0,0 +1,58 @@
+package coded.dependency.injection.internal;
+
+/**
+ * Emits the JFR events of the injector if the module jdk.jfr is present, the
+ * event classes are loaded only then. An event is passed as Object to keep
+ * callers free of references to jdk.jfr.
+ */
+public final class _Jfr {
+
+	private static final boolean AVAILABLE = ModuleLayer.boot()
+		.findModule("jdk.jfr")
+		.isPresent();
+
+	private _Jfr() {
+	}
+
+	/**
+	 * @return event to pass to {@link #endConstruction(Object, String, Class)},
+	 *         null if not recorded
+	 */
+	static Object beginConstruction(Class<?> clz) {
+		return AVAILABLE ? _BeanConstructionEvent.beginEvent(clz) : null;
+	}
+
+	static void endConstruction(Object event, String contextName, Class<?> clz) {
+		if (event != null) {
+			((_BeanConstructionEvent) event).end(contextName, clz);
+		}
+	}
+
+	/**
+	 * @return event to pass to {@link #endInjection(Object, _WiringHelper, Class, Object)},
+	 *         null if not recorded
+	 */
+	public static Object beginInjection() {
+		return AVAILABLE ? _InjectionEvent.beginEvent() : null;
+	}
+
+	public static void endInjection(Object event, _WiringHelper helper, Class<?> targetClass, Object dependent) {
+		if (event != null) {
+			((_InjectionEvent) event).end(helper, targetClass, dependent);
+		}
+	}
+
+	/**
+	 * @return event to pass to {@link #endLifecycle(Object, String, String, Object, Object)},
+	 *         null if not recorded
+	 */
+	static Object beginLifecycle() {
+		return AVAILABLE ? _LifecycleEvent.beginEvent() : null;
+	}
+
+	static void endLifecycle(Object event, String contextName, String action, Object bean, Object parent) {
+		if (event != null) {
+			((_LifecycleEvent) event).end(contextName, action, bean, parent);
+		}
+	}
+}
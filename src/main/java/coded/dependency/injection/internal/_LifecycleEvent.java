@@ -0,0 +1,59 @@
+package coded.dependency.injection.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a {@link coded.dependency.injection.Lifecycle} start or stop of
+ * a bean, the duration excludes its dependencies.
+ */
+@Name("coded.dependency.injection.Lifecycle")
+@Label("Bean Lifecycle")
+@Category("Dependency Injection")
+@Description("Start or stop of a bean using Lifecycle")
+public class _LifecycleEvent extends Event {
+
+	// checked before an event is allocated
+	private static final EventType TYPE = EventType.getEventType(_LifecycleEvent.class);
+
+	@Label("Context")
+	String contextName;
+
+	@Label("Action")
+	@Description("start or stop")
+	String action;
+
+	@Label("Bean Class")
+	Class<?> beanClass;
+
+	@Label("Parent Bean Class")
+	@Description("Dependent whose lifecycle caused this one, null for a root bean")
+	Class<?> parentBeanClass;
+
+	/**
+	 * @return the begun event or null if the event is disabled
+	 */
+	static _LifecycleEvent beginEvent() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		_LifecycleEvent event = new _LifecycleEvent();
+		event.begin();
+		return event;
+	}
+
+	void end(String contextName, String action, Object bean, Object parent) {
+		end();
+		if (shouldCommit()) {
+			this.contextName = contextName;
+			this.action = action;
+			this.beanClass = bean.getClass();
+			this.parentBeanClass = parent == null ? null : parent.getClass();
+			commit();
+		}
+	}
+}
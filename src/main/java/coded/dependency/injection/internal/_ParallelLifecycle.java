@@ -0,0 +1,375 @@
+package coded.dependency.injection.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import coded.dependency.injection.exception.LifecycleException;
+
+/**
+ * Starts or stops the beans of a context in parallel. A bean is started as soon
+ * as all its dependencies are started, with that independent beans of the same
+ * dependency level are started at the same time. Stopping drains the graph in
+ * reverse order, a bean is stopped as soon as all its dependents are stopped.
+ */
+class _ParallelLifecycle {
+
+	private final _WiringHelper helper;
+	private final Executor executor;
+	private final List<Node> nodes;
+	private final Object lock = new Object();
+	private final Deque<Node> started = new ConcurrentLinkedDeque<>();
+	private final List<String> failedBeans = new ArrayList<>();
+	private final List<Throwable> failures = new ArrayList<>();
+	private final Set<Node> stopping = new LinkedHashSet<>();
+	private final List<String> timedOutBeans = new ArrayList<>();
+	// stop failures of timed out beans
+	private final List<Throwable> lateFailures = new ArrayList<>();
+	// ready nodes not submitted yet, see submit
+	private final Deque<Node> queued = new ArrayDeque<>();
+	private boolean submitting;
+	private int inFlight;
+	private int finished;
+	private boolean closed;
+
+	_ParallelLifecycle(_WiringHelper helper, Executor executor) {
+		this.helper = helper;
+		this.executor = executor;
+		this.nodes = Node.collect(helper);
+	}
+
+	/**
+	 * Starts all beans not started yet and waits until they are started. If a
+	 * start fails no further beans are started, the beans started by this call are
+	 * stopped in reverse order.
+	 * 
+	 * @throws LifecycleException if any start failed
+	 */
+	void start() {
+		List<Node> ready = new ArrayList<>();
+		synchronized (lock) {
+			for (Node node : nodes) {
+				node.pendingDependencies = node.dependencies.size();
+				if (node.pendingDependencies == 0) {
+					ready.add(node);
+				}
+			}
+			inFlight = ready.size();
+		}
+		submit(ready, this::start, this::finish);
+		boolean interrupted = false;
+		synchronized (lock) {
+			while (finished < nodes.size() && !(!failures.isEmpty() && inFlight == 0)) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread()
+				.interrupt();
+		}
+		if (failures.isEmpty()) {
+			return;
+		}
+		LifecycleException e = new LifecycleException(
+				"Start of " + failedBeans + " failed, " + started.size() + " started bean(s) are stopped again.",
+				failedBeans, failures.get(0));
+		for (Throwable failure : failures.subList(1, failures.size())) {
+			e.addSuppressed(failure);
+		}
+		for (Node node : (Iterable<Node>) started::descendingIterator) {
+			try {
+				helper.stopBean(node.object);
+			} catch (RuntimeException stopFailure) {
+				helper.logerror(_WiringHelper.class, () -> "Stopping " + node.name + " failed", stopFailure);
+				e.addSuppressed(stopFailure);
+			}
+			helper.unmarkStarted(node.object);
+		}
+		throw e;
+	}
+
+	/**
+	 * Submits the action of the ready nodes to the executor, one thread submits at
+	 * a time. Nodes that become ready while a thread submits are queued and
+	 * submitted by that thread, e.g., if the executor runs the action in the
+	 * submitting thread, so the stack does not grow with the dependency depth.
+	 * 
+	 * @param rejected called with a node and the exception if the executor
+	 *                 rejected its action
+	 */
+	private void submit(List<Node> ready, Consumer<Node> action, BiConsumer<Node, Throwable> rejected) {
+		synchronized (lock) {
+			queued.addAll(ready);
+			if (submitting) {
+				return;
+			}
+			submitting = true;
+		}
+		while (true) {
+			Node node;
+			synchronized (lock) {
+				node = queued.poll();
+				if (node == null) {
+					submitting = false;
+					return;
+				}
+			}
+			try {
+				executor.execute(() -> action.accept(node));
+			} catch (RuntimeException e) {
+				rejected.accept(node, e);
+			}
+		}
+	}
+
+	private void start(Node node) {
+		Throwable failure = null;
+		try {
+			if (helper.startBean(node.object)) {
+				started.add(node);
+			}
+		} catch (Throwable t) {
+			helper.logerror(_WiringHelper.class, () -> "Starting " + node.name + " failed: " + t);
+			failure = t;
+		}
+		finish(node, failure);
+	}
+
+	private void finish(Node node, Throwable failure) {
+		List<Node> ready = new ArrayList<>();
+		synchronized (lock) {
+			inFlight--;
+			finished++;
+			if (failure != null) {
+				failedBeans.add(node.name);
+				failures.add(failure);
+			} else if (failures.isEmpty()) {
+				for (Node dependent : node.dependents) {
+					if (--dependent.pendingDependencies == 0) {
+						ready.add(dependent);
+					}
+				}
+				inFlight += ready.size();
+			}
+			lock.notifyAll();
+		}
+		submit(ready, this::start, this::finish);
+	}
+
+	/**
+	 * Stops all beans not stopped yet, a bean is stopped when all its dependents
+	 * are stopped. A bean that does not stop within the bean timeout is reported
+	 * and its dependencies are stopped anyway, its stop method is not interrupted.
+	 * When the timeout is reached no further beans are stopped. If the stop of a
+	 * timed out bean fails while other beans are still stopping, its failure is
+	 * added as suppressed exception, later failures are only logged.
+	 * 
+	 * @param timeout     for stopping all beans
+	 * @param beanTimeout for stopping a single bean
+	 * @throws LifecycleException if beans did not stop in time or failed to stop
+	 */
+	void stop(Duration timeout, Duration beanTimeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long beanNanos = beanTimeout.toNanos();
+		List<Node> ready = new ArrayList<>();
+		synchronized (lock) {
+			for (Node node : nodes) {
+				node.pendingDependents = node.dependents.size();
+				if (node.pendingDependents == 0) {
+					ready.add(node);
+				}
+			}
+		}
+		boolean interrupted = false;
+		while (true) {
+			submit(ready, this::stop, this::stopped);
+			ready = new ArrayList<>();
+			synchronized (lock) {
+				long now = System.nanoTime();
+				if (finished == nodes.size() || now - deadline >= 0) {
+					closed = true;
+					break;
+				}
+				long wakeUp = deadline;
+				for (Node node : new ArrayList<>(stopping)) {
+					long expiry = node.stoppingSince + beanNanos;
+					if (expiry - now <= 0) {
+						timedOutBeans.add(node.name);
+						helper.logerror(_WiringHelper.class, () -> "Stopping " + node.name + " exceeded "
+								+ beanTimeout.toMillis() + "ms, continue with its dependencies.");
+						finishStop(node, ready);
+					} else if (expiry - wakeUp < 0) {
+						wakeUp = expiry;
+					}
+				}
+				if (ready.isEmpty() && finished < nodes.size()) {
+					try {
+						TimeUnit.NANOSECONDS.timedWait(lock, wakeUp - now);
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread()
+				.interrupt();
+		}
+		List<String> notStopped = new ArrayList<>(timedOutBeans);
+		List<String> failedBeans;
+		List<Throwable> failures;
+		List<Throwable> lateFailures;
+		// beans still stopping after the deadline may add failures concurrently
+		synchronized (lock) {
+			for (Node node : nodes) {
+				if (!node.done) {
+					notStopped.add(node.name);
+				}
+			}
+			failedBeans = new ArrayList<>(this.failedBeans);
+			failures = new ArrayList<>(this.failures);
+			lateFailures = new ArrayList<>(this.lateFailures);
+		}
+		if (notStopped.isEmpty() && failures.isEmpty()) {
+			return;
+		}
+		List<String> beanNames = new ArrayList<>(notStopped);
+		beanNames.addAll(failedBeans);
+		LifecycleException e = new LifecycleException("Stop of " + notStopped + " did not finish in time, stop of "
+				+ failedBeans + " failed.", beanNames, failures.isEmpty() ? null : failures.get(0));
+		for (Throwable failure : failures.subList(Math.min(1, failures.size()), failures.size())) {
+			e.addSuppressed(failure);
+		}
+		for (Throwable failure : lateFailures) {
+			e.addSuppressed(failure);
+		}
+		throw e;
+	}
+
+	private void stop(Node node) {
+		synchronized (lock) {
+			if (closed) {
+				return;
+			}
+			node.stoppingSince = System.nanoTime();
+			stopping.add(node);
+			// the waiting caller takes the bean timeout into account
+			lock.notifyAll();
+		}
+		Throwable failure = null;
+		try {
+			helper.stopBean(node.object);
+		} catch (Throwable t) {
+			helper.logerror(_WiringHelper.class, () -> "Stopping " + node.name + " failed: " + t);
+			failure = t;
+		}
+		stopped(node, failure);
+	}
+
+	private void stopped(Node node, Throwable failure) {
+		List<Node> ready = new ArrayList<>();
+		synchronized (lock) {
+			if (node.done) {
+				// timed out before
+				if (failure != null && !closed) {
+					lateFailures.add(failure);
+				}
+				return;
+			}
+			if (failure != null) {
+				failedBeans.add(node.name);
+				failures.add(failure);
+			}
+			finishStop(node, ready);
+			if (closed) {
+				return;
+			}
+		}
+		submit(ready, this::stop, this::stopped);
+	}
+
+	private void finishStop(Node node, List<Node> ready) {
+		node.done = true;
+		finished++;
+		stopping.remove(node);
+		for (Node dependency : node.dependencies) {
+			if (--dependency.pendingDependents == 0) {
+				ready.add(dependency);
+			}
+		}
+		lock.notifyAll();
+	}
+
+	/**
+	 * A bean of the dependency graph, identified by object identity.
+	 */
+	static class Node {
+		final String name;
+		final Object object;
+		final Set<Node> dependencies = new LinkedHashSet<>();
+		final Set<Node> dependents = new LinkedHashSet<>();
+		int pendingDependencies;
+		int pendingDependents;
+		long stoppingSince;
+		boolean done;
+
+		Node(String name, Object object) {
+			this.name = name;
+			this.object = object;
+		}
+
+		/**
+		 * @return all beans reachable from the beans created by makeBeans, in
+		 *         discovery order
+		 */
+		static List<Node> collect(_WiringHelper helper) {
+			Map<Object, Node> nodes = new IdentityHashMap<>();
+			List<Node> ordered = new ArrayList<>();
+			Deque<Node> open = new ArrayDeque<>();
+			for (Class<?> clz : helper.getMakeBeansClasses()) {
+				Object object = helper.findBean(clz);
+				if (object != null && helper.owns(object) && !nodes.containsKey(object)) {
+					Node root = new Node(clz.getName(), object);
+					nodes.put(object, root);
+					ordered.add(root);
+					open.push(root);
+				}
+			}
+			while (!open.isEmpty()) {
+				Node node = open.pop();
+				for (int dep : helper.getDependencyIds(node.object)) {
+					Object target = helper.getTarget(dep);
+					if (target == null || !helper.owns(target)) {
+						continue;
+					}
+					Node dependency = nodes.get(target);
+					if (dependency == null) {
+						dependency = new Node(target.getClass()
+							.getName(), target);
+						nodes.put(target, dependency);
+						ordered.add(dependency);
+						open.push(dependency);
+					}
+					node.dependencies.add(dependency);
+					dependency.dependents.add(node);
+				}
+			}
+			return ordered;
+		}
+	}
+}
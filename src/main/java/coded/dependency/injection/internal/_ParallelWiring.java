@@ -0,0 +1,266 @@
+package coded.dependency.injection.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import coded.dependency.injection.Dependency;
+import coded.dependency.injection.exception.ConstructionMissingException;
+import coded.dependency.injection.exception.ContextMismatchException;
+import coded.dependency.injection.exception.CyclicDependencyException;
+import coded.dependency.injection.exception.DependencyCreationException;
+
+/**
+ * State of one parallel {@link _WiringHelper#makeBeans(Class, Executor)} run.
+ * Every bean is created by exactly one {@link BeanTask}. A {@link Dependency}
+ * constructed within a task submits the task of its target and resolves it on
+ * {@link Dependency#get()}, with that siblings are created concurrently.
+ * Cycles are detected when a new dependency edge is added, independent of the
+ * thread that creates the beans.
+ */
+class _ParallelWiring {
+
+	private static final ThreadLocal<_ParallelWiring> current = new ThreadLocal<>();
+
+	private final _WiringHelper helper;
+	private final Executor executor;
+	private final Map<Class<?>, BeanTask> tasks = new ConcurrentHashMap<>();
+	private final Queue<BeanTask> taskOrder = new ConcurrentLinkedQueue<>();
+	private final Queue<Dependency<?>> injected = new ConcurrentLinkedQueue<>();
+	private final Map<Class<?>, List<Class<?>>> edges = new HashMap<>();
+	private final ThreadLocal<Class<?>> constructing = new ThreadLocal<>();
+
+	_ParallelWiring(_WiringHelper helper, Executor executor) {
+		this.helper = helper;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the run of the context the current thread creates a bean for, or
+	 *         null
+	 */
+	static _ParallelWiring current(_WiringHelper helper) {
+		_ParallelWiring wiring = current.get();
+		return wiring != null && wiring.helper == helper ? wiring : null;
+	}
+
+	void addInjected(Dependency<?> dependency) {
+		injected.add(dependency);
+	}
+
+	/**
+	 * Creates the roots and all their dependencies, the calling thread creates the
+	 * first root and helps with pending tasks, further roots are submitted to the
+	 * executor. Returns when all tasks are finished.
+	 * 
+	 * @param roots
+	 * @throws Exception the failure of the first failed task
+	 */
+	void makeBeans(List<Class<?>> roots) throws Exception {
+		if (roots.isEmpty()) {
+			return;
+		}
+		Supplier<?> rootObject = request(roots.get(0), false);
+		for (Class<?> root : roots.subList(1, roots.size())) {
+			request(root, true);
+		}
+		rootObject.get();
+		awaitAll();
+		for (BeanTask task : taskOrder) {
+			Throwable failure = task.getFailure();
+			if (failure instanceof Exception) {
+				throw (Exception) failure;
+			} else if (failure instanceof Error) {
+				throw (Error) failure;
+			}
+		}
+		for (Dependency<?> dependency : injected) {
+			dependency.get();
+		}
+	}
+
+	/**
+	 * Provides the object of the given class, its creation is submitted to the
+	 * executor if it does not exist yet.
+	 * 
+	 * @param targetClass
+	 * @return supplier that waits for the created object
+	 * @throws CyclicDependencyException if the new dependency closes a cycle
+	 */
+	<T> Supplier<T> request(Class<T> targetClass) {
+		return request(targetClass, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Supplier<T> request(Class<T> targetClass, boolean submit) {
+		Class<?> dependent = constructing.get();
+		if (dependent != null) {
+			addEdge(dependent, targetClass);
+		}
+		T existing = helper.findBean(targetClass);
+		if (existing != null) {
+			return () -> existing;
+		}
+		BeanTask task = new BeanTask(targetClass, dependent != null);
+		BeanTask known = tasks.putIfAbsent(targetClass, task);
+		if (known != null) {
+			return () -> (T) known.join();
+		}
+		taskOrder.add(task);
+		if (submit) {
+			executor.execute(task);
+		}
+		return () -> (T) task.join();
+	}
+
+	private void addEdge(Class<?> dependent, Class<?> targetClass) {
+		synchronized (edges) {
+			if (isReachable(targetClass, dependent)) {
+				throw new CyclicDependencyException("Cyclic dependency to " + _WiringHelper.getPrintNameOfClass(targetClass));
+			}
+			edges.computeIfAbsent(dependent, k -> new ArrayList<>())
+				.add(targetClass);
+		}
+	}
+
+	private boolean isReachable(Class<?> from, Class<?> to) {
+		Set<Class<?>> visited = new HashSet<>();
+		Deque<Class<?>> open = new ArrayDeque<>();
+		open.push(from);
+		while (!open.isEmpty()) {
+			Class<?> clz = open.pop();
+			if (clz == to) {
+				return true;
+			}
+			if (visited.add(clz)) {
+				List<Class<?>> targets = edges.get(clz);
+				if (targets != null) {
+					targets.forEach(open::push);
+				}
+			}
+		}
+		return false;
+	}
+
+	private void awaitAll() {
+		Set<BeanTask> awaited = new HashSet<>();
+		boolean pending;
+		do {
+			pending = false;
+			for (BeanTask task : taskOrder) {
+				if (awaited.add(task)) {
+					task.await();
+					pending = true;
+				}
+			}
+		} while (pending);
+	}
+
+	/**
+	 * Creates one bean. It is run by the executor or by the first thread waiting
+	 * for it, whichever comes first.
+	 */
+	private class BeanTask implements Runnable {
+		private final Class<?> clz;
+		private final boolean isDependency;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+		BeanTask(Class<?> clz, boolean isDependency) {
+			this.clz = clz;
+			this.isDependency = isDependency;
+		}
+
+		@Override
+		public void run() {
+			if (!claimed.compareAndSet(false, true)) {
+				return;
+			}
+			_WiringHelper previousContext = _WiringHelper.bindThreadContext(helper);
+			_ParallelWiring previousWiring = current.get();
+			current.set(_ParallelWiring.this);
+			Class<?> previousBean = constructing.get();
+			constructing.set(clz);
+			try {
+				result.complete(helper.getOrCreateObject(clz));
+			} catch (ContextMismatchException | CyclicDependencyException | ConstructionMissingException
+					| DependencyCreationException e) {
+				result.completeExceptionally(e);
+			} catch (Exception e) {
+				if (_WiringHelper.isCauseKnownRuntimeException(e)) {
+					result.completeExceptionally(e.getCause());
+				} else if (isDependency) {
+					helper.logerror(_WiringHelper.class,
+							() -> "Creating " + _WiringHelper.getPrintNameOfClass(clz) + " failed", e);
+					result.completeExceptionally(
+							new DependencyCreationException(_WiringHelper.getPrintNameOfClass(clz), e));
+				} else {
+					result.completeExceptionally(e);
+				}
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			} finally {
+				if (previousBean == null) {
+					constructing.remove();
+				} else {
+					constructing.set(previousBean);
+				}
+				if (previousWiring == null) {
+					current.remove();
+				} else {
+					current.set(previousWiring);
+				}
+				_WiringHelper.restoreThreadContext(previousContext);
+			}
+		}
+
+		void await() {
+			run();
+			try {
+				result.join();
+			} catch (CompletionException e) {
+				// reported by makeBeans
+			}
+		}
+
+		Object join() {
+			run();
+			try {
+				return result.join();
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new DependencyCreationException(_WiringHelper.getPrintNameOfClass(clz), (Exception) cause);
+			}
+		}
+
+		Throwable getFailure() {
+			if (!result.isCompletedExceptionally()) {
+				return null;
+			}
+			try {
+				result.join();
+				return null;
+			} catch (CompletionException e) {
+				return e.getCause();
+			}
+		}
+	}
+}
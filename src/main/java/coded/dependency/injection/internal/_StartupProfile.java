@@ -0,0 +1,215 @@
+package coded.dependency.injection.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import coded.dependency.injection.StartupProfile;
+import coded.dependency.injection.StartupProfile.BeanTiming;
+
+/**
+ * Records the construction and start times of the beans of a context, keyed by
+ * the bean id of the implementation class. Only created while profiling is
+ * enabled.
+ */
+final class _StartupProfile {
+
+	/**
+	 * Measures nested calls on the same thread, e.g., the creation of a dependency
+	 * within the constructor of its dependent, to compute exclusive times.
+	 */
+	static final class NestedTimer {
+		// [0] time of finished nested calls, [1] nesting depth
+		private final ThreadLocal<long[]> frames = ThreadLocal.withInitial(() -> new long[2]);
+
+		/**
+		 * @return state of the enclosing call to pass to {@link #end(long, long)}
+		 */
+		long begin() {
+			long[] frame = frames.get();
+			long enclosingNested = frame[0];
+			frame[0] = 0;
+			frame[1]++;
+			return enclosingNested;
+		}
+
+		/**
+		 * @param enclosingNested result of {@link #begin()}
+		 * @param nanos           inclusive time of the call
+		 * @return exclusive time of the call
+		 */
+		long end(long enclosingNested, long nanos) {
+			long[] frame = frames.get();
+			long exclusive = Math.max(0, nanos - frame[0]);
+			frame[0] = enclosingNested + nanos;
+			if (--frame[1] == 0) {
+				frames.remove();
+			}
+			return exclusive;
+		}
+	}
+
+	private static final class Timing {
+		final String name;
+		final long order;
+		volatile long construction;
+		volatile long constructionExclusive;
+		volatile long start;
+		volatile long startExclusive;
+
+		Timing(String name, long order) {
+			this.name = name;
+			this.order = order;
+		}
+
+		BeanTiming toBeanTiming() {
+			return new BeanTiming(name, construction, constructionExclusive, start, startExclusive);
+		}
+	}
+
+	final NestedTimer constructionTimer = new NestedTimer();
+	private final Map<Integer, Timing> timings = new ConcurrentHashMap<>();
+	private final AtomicLong order = new AtomicLong();
+
+	private Timing timing(Object bean) {
+		return timings.computeIfAbsent(_BeanId.of(bean.getClass()), id -> new Timing(bean.getClass()
+			.getName(), order.getAndIncrement()));
+	}
+
+	void constructed(Object bean, long nanos, long exclusiveNanos) {
+		Timing timing = timing(bean);
+		timing.construction = nanos;
+		timing.constructionExclusive = exclusiveNanos;
+	}
+
+	/**
+	 * Records the time of {@link coded.dependency.injection.Lifecycle#start()},
+	 * the inclusive time is the same until
+	 * {@link #startedInclusive(Object, long)}.
+	 */
+	void started(Object bean, long nanos) {
+		Timing timing = timing(bean);
+		timing.start = nanos;
+		timing.startExclusive = nanos;
+	}
+
+	void startedInclusive(Object bean, long nanos) {
+		timing(bean).start = nanos;
+	}
+
+	/**
+	 * @return timing of the bean or null if not recorded
+	 */
+	BeanTiming timingOf(Object bean) {
+		Timing timing = timings.get(_BeanId.of(bean.getClass()));
+		return timing != null ? timing.toBeanTiming() : null;
+	}
+
+	/**
+	 * @param roots        root beans
+	 * @param dependencies provides the dependency beans of a bean
+	 * @return snapshot of the timings
+	 */
+	StartupProfile snapshot(List<Object> roots, Function<Object, List<Object>> dependencies) {
+		List<BeanTiming> beans = new ArrayList<>();
+		timings.values()
+			.stream()
+			.sorted(Comparator.comparingLong(timing -> timing.order))
+			.forEach(timing -> beans.add(timing.toBeanTiming()));
+
+		Map<Object, Long> pathNanos = new IdentityHashMap<>();
+		Map<Object, Object> pathNext = new IdentityHashMap<>();
+		Object start = null;
+		long startNanos = -1;
+		for (Object root : roots) {
+			long nanos = longestPath(root, dependencies, pathNanos, pathNext);
+			if (nanos > startNanos) {
+				start = root;
+				startNanos = nanos;
+			}
+		}
+		List<BeanTiming> criticalPath = new ArrayList<>();
+		for (Object bean = start; bean != null; bean = pathNext.get(bean)) {
+			Timing timing = timings.get(_BeanId.of(bean.getClass()));
+			criticalPath.add(timing != null ? timing.toBeanTiming()
+					: new BeanTiming(bean.getClass()
+						.getName(), 0, 0, 0, 0));
+		}
+		return new StartupProfile(beans, criticalPath);
+	}
+
+	/**
+	 * Computes the longest path from the bean in post-order, iteratively to
+	 * support deep graphs. Dependencies back to a bean on the current path are
+	 * skipped.
+	 */
+	private long longestPath(Object bean, Function<Object, List<Object>> dependencies, Map<Object, Long> pathNanos,
+			Map<Object, Object> pathNext) {
+		Long known = pathNanos.get(bean);
+		if (known != null) {
+			return known;
+		}
+		Deque<PathFrame> open = new ArrayDeque<>();
+		Set<Object> onPath = Collections.newSetFromMap(new IdentityHashMap<>());
+		onPath.add(bean);
+		open.push(new PathFrame(bean, dependencies.apply(bean)
+			.iterator()));
+		long nanos = 0;
+		while (!open.isEmpty()) {
+			PathFrame frame = open.peek();
+			if (frame.dependencies.hasNext()) {
+				Object dependency = frame.dependencies.next();
+				known = pathNanos.get(dependency);
+				if (known != null) {
+					frame.visited(dependency, known);
+				} else if (onPath.add(dependency)) {
+					open.push(new PathFrame(dependency, dependencies.apply(dependency)
+						.iterator()));
+				}
+				continue;
+			}
+			open.pop();
+			onPath.remove(frame.bean);
+			Timing timing = timings.get(_BeanId.of(frame.bean.getClass()));
+			nanos = frame.longest + (timing != null ? timing.constructionExclusive + timing.startExclusive : 0);
+			pathNanos.put(frame.bean, nanos);
+			if (frame.next != null) {
+				pathNext.put(frame.bean, frame.next);
+			}
+			if (!open.isEmpty()) {
+				open.peek()
+					.visited(frame.bean, nanos);
+			}
+		}
+		return nanos;
+	}
+
+	private static final class PathFrame {
+		final Object bean;
+		final Iterator<Object> dependencies;
+		long longest;
+		Object next;
+
+		PathFrame(Object bean, Iterator<Object> dependencies) {
+			this.bean = bean;
+			this.dependencies = dependencies;
+		}
+
+		void visited(Object dependency, long nanos) {
+			if (next == null || nanos > longest) {
+				longest = nanos;
+				next = dependency;
+			}
+		}
+	}
+}
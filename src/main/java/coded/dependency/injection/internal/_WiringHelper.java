@@ -1,26 +1,53 @@
 package coded.dependency.injection.internal;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import coded.dependency.injection.Dependency;
 import coded.dependency.injection.Dependent;
+import coded.dependency.injection.GraphFormat;
 import coded.dependency.injection.Injector;
+import coded.dependency.injection.InjectorTemplate;
+import coded.dependency.injection.LazyDependency;
 import coded.dependency.injection.Lifecycle;
 import coded.dependency.injection.LogBindingAdapter;
 import coded.dependency.injection.LogBindingInterface;
+import coded.dependency.injection.StartupProfile;
+import coded.dependency.injection.StartupProfile.BeanTiming;
+import coded.dependency.injection.WiringPlan;
 import coded.dependency.injection.exception.BeanOutOfContextCreationException;
 import coded.dependency.injection.exception.ConstructionMissingException;
+import coded.dependency.injection.exception.ContextFrozenException;
 import coded.dependency.injection.exception.ContextMismatchException;
 import coded.dependency.injection.exception.CyclicDependencyException;
 import coded.dependency.injection.exception.DependencyCreationException;
@@ -28,25 +55,46 @@ import coded.dependency.injection.exception.MakeBeansException;
 
 public class _WiringHelper implements Injector {
 
-	private final static Map<String, _WiringHelper> wiringContextMap = new HashMap<>();
-	private final static ThreadLocal<String> threadContext = new ThreadLocal<>();
+	private final static Map<String, _WiringHelper> wiringContextMap = new ConcurrentHashMap<>();
+	private final static Set<String> contextNames = Collections.unmodifiableSet(wiringContextMap.keySet());
+	private final static ThreadLocal<_WiringHelper> threadContext = new ThreadLocal<>();
+	private static volatile _ContextEviction eviction;
+	private static volatile boolean mbeansEnabled;
+	private final static Supplier<StackTraceElement[]> STACK = () -> new Throwable().getStackTrace();
 
-	private final Map<String, Object> objectMap = new HashMap<>();
-	private final Map<String, Supplier<?>> objectConstructionMap = new HashMap<>();
-	private final Set<String> objectStartedSet = new HashSet<>();
-	private final Set<String> objectStoppedSet = new HashSet<>();
-	private final Set<String> objectCreationPending = new HashSet<>();
-	private final List<String> makeBeansList = new ArrayList<>();
+	private final _BeanTable<Object> objectTable;
+	private volatile _BeanTable<Supplier<?>> objectConstructionTable;
+	private volatile boolean constructionShared;
+	private final _BeanIdSet startedBeans = new _BeanIdSet();
+	private final _BeanIdSet stoppedBeans = new _BeanIdSet();
+	// beans created by a construction supplier defined for their class
+	private final _BeanIdSet suppliedBeans = new _BeanIdSet();
+	private final _BeanCreations creations = new _BeanCreations();
+	private final List<Class<?>> makeBeansList = new CopyOnWriteArrayList<>();
 	private final String contextName;
-	private final Map<Dependent, List<Dependency<?>>> dependencies = new HashMap<>();
+	private final _DependencyGraph dependencies = new _DependencyGraph();
 
+	private final _InjectorTemplate template;
+	private final _WiringHelper parent;
 	private Optional<LogBindingInterface> logger = Optional.empty();
+	private volatile _BeanTable<Object> frozenObjects;
+	private volatile long lastAccess = System.nanoTime();
+	private final AtomicInteger makingBeans = new AtomicInteger();
+	// a discard checks makingBeans and removes beans atomically
+	private final Object discardLock = new Object();
+	// registered children, a parent is not evicted while it has any
+	private final AtomicInteger liveChildren = new AtomicInteger();
+	private volatile boolean started;
+	private volatile _StartupProfile startupProfile;
+	// created while MBeans are enabled, null otherwise
+	private volatile _InjectorMetrics metrics;
+	private volatile boolean stopped;
 
 	public static class StopWatch {
-		private Instant start;
+		private final long start;
 
 		StopWatch() {
-			start = Instant.now();
+			start = System.nanoTime();
 		}
 
 		static StopWatch start() {
@@ -54,16 +102,50 @@ public class _WiringHelper implements Injector {
 		}
 
 		long stop() {
-			return Duration.between(start, Instant.now())
-				.toMillis();
+			return TimeUnit.NANOSECONDS.toMillis(stopNanos());
+		}
+
+		long stopNanos() {
+			return System.nanoTime() - start;
 		}
 	}
 
 	private _WiringHelper(String name) {
 		this.contextName = name;
+		this.template = null;
+		this.parent = null;
+		this.objectTable = new _BeanTable<>();
+		this.objectConstructionTable = new _BeanTable<>();
 		setLogger(new LogBindingAdapter(new PrintWriter(System.out, true)));
 	}
 
+	private _WiringHelper(String name, _InjectorTemplate template) {
+		this.contextName = name;
+		this.template = template;
+		this.parent = null;
+		this.objectTable = new _BeanTable<>();
+		this.objectConstructionTable = template.shareConstructions();
+		this.constructionShared = true;
+		Optional<LogBindingInterface> templateLogger = template.getLogger();
+		if (templateLogger == null) {
+			setLogger(new LogBindingAdapter(new PrintWriter(System.out, true)));
+		} else {
+			logger = templateLogger;
+		}
+		if (template.isProfilingEnabled()) {
+			startupProfile = new _StartupProfile();
+		}
+	}
+
+	private _WiringHelper(String name, _WiringHelper parent) {
+		this.contextName = name;
+		this.template = null;
+		this.parent = parent;
+		this.objectTable = new _BeanTable<>();
+		this.objectConstructionTable = new _BeanTable<>();
+		this.logger = parent.logger;
+	}
+
 	/**
 	 * Creates a named injector. "Singletons" refer to single instances within an
 	 * injector. With multiple injectors everyone would hold its own instance of a
@@ -75,20 +157,198 @@ public class _WiringHelper implements Injector {
 		if (contextName == null) {
 			throw new IllegalArgumentException("contextName must not be NULL");
 		}
-		_WiringHelper wiring = getContext(contextName);
-		if (wiring == null) {
-			synchronized (wiringContextMap) {
-				return wiringContextMap.computeIfAbsent(contextName, k -> new _WiringHelper(k));
+		return getOrCreate(contextName, _WiringHelper::new);
+	}
+
+	/**
+	 * Creates a named injector sharing the definitions of the template, an
+	 * existing injector is returned as is.
+	 * 
+	 * @return the injector
+	 */
+	public static Injector getOrCreateContext(String contextName, InjectorTemplate template) {
+		if (contextName == null || template == null) {
+			throw new IllegalArgumentException("contextName and template must not be NULL");
+		}
+		return getOrCreate(contextName, k -> new _WiringHelper(k, (_InjectorTemplate) template));
+	}
+
+	@Override
+	public Injector getChildContext(String contextName) {
+		if (contextName == null) {
+			throw new IllegalArgumentException("contextName must not be NULL");
+		}
+		_WiringHelper wiring = getOrCreate(contextName, k -> new _WiringHelper(k, this));
+		if (wiring.parent != this) {
+			throw new IllegalStateException(
+					String.format("Context '%s' exists and is no child of '%s'.", contextName, this.contextName));
+		}
+		lastAccess = wiring.lastAccess;
+		return wiring;
+	}
+
+	@Override
+	public Injector getParent() {
+		return parent;
+	}
+
+	/**
+	 * Returns the registered context or registers a new one. The access time is
+	 * refreshed within the update of the registry entry, with that a context is
+	 * never evicted after it was returned here, see {@link _ContextEviction}.
+	 */
+	private static _WiringHelper getOrCreate(String contextName, Function<String, _WiringHelper> factory) {
+		boolean[] created = new boolean[1];
+		_WiringHelper wiring = wiringContextMap.compute(contextName, (name, existing) -> {
+			_WiringHelper context = existing;
+			if (context == null) {
+				context = factory.apply(name);
+				created[0] = true;
+				if (context.parent != null) {
+					context.parent.liveChildren.incrementAndGet();
+				}
 			}
+			context.lastAccess = System.nanoTime();
+			return context;
+		});
+		if (created[0]) {
+			contextCreated(wiring);
 		}
 		return wiring;
 	}
 
+	private static void contextCreated(_WiringHelper wiring) {
+		if (mbeansEnabled) {
+			wiring.registerMBean();
+		}
+		_ContextEviction current = eviction;
+		if (current != null) {
+			current.contextCreated();
+		}
+	}
+
+	/**
+	 * Enables or disables the MBeans of all contexts and the aggregate MBean.
+	 */
+	public static synchronized void setMBeansEnabled(boolean enabled) {
+		if (enabled == mbeansEnabled) {
+			return;
+		}
+		if (enabled && !_InjectorMetrics.MBEANS_AVAILABLE) {
+			throw new UnsupportedOperationException("MBeans require the module java.management");
+		}
+		mbeansEnabled = enabled;
+		_InjectorMBeans.setAggregate(enabled ? wiringContextMap : null);
+		for (_WiringHelper wiring : wiringContextMap.values()) {
+			if (enabled) {
+				wiring.registerMBean();
+			} else {
+				wiring.unregisterMBean();
+			}
+		}
+	}
+
+	/**
+	 * @return the metrics, null while MBeans are disabled
+	 */
+	_InjectorMetrics getMetrics() {
+		return metrics;
+	}
+
+	private void registerMBean() {
+		_InjectorMetrics created = new _InjectorMetrics(this);
+		metrics = created;
+		_InjectorMBeans.register(created, this);
+	}
+
+	private void unregisterMBean() {
+		_InjectorMetrics registered = metrics;
+		metrics = null;
+		if (registered != null) {
+			_InjectorMBeans.unregister(registered, this);
+		}
+	}
+
+	/**
+	 * Releases the resources of a context removed from the registry.
+	 */
+	void removed() {
+		if (parent != null) {
+			parent.liveChildren.decrementAndGet();
+		}
+		if (mbeansEnabled) {
+			unregisterMBean();
+		}
+	}
+
+	int getBeanCount() {
+		_BeanTable<Object> frozen = frozenObjects;
+		return frozen != null ? frozen.count() : objectTable.count();
+	}
+
+	String getLifecycleState() {
+		return started ? "STARTED" : stopped ? "STOPPED" : "NEW";
+	}
+
+	/**
+	 * Replaces the eviction policy of the registry.
+	 * 
+	 * @param idleTimeout null for no idle eviction
+	 * @param maximumSize 0 for no size bound
+	 */
+	public static synchronized void setEviction(Duration idleTimeout, int maximumSize) {
+		if (maximumSize < 0 || (idleTimeout != null && (idleTimeout.isNegative() || idleTimeout.isZero()))) {
+			throw new IllegalArgumentException("idleTimeout and maximumSize must be positive");
+		}
+		_ContextEviction previous = eviction;
+		if (previous != null) {
+			previous.shutdown();
+		}
+		if (idleTimeout == null && maximumSize == 0) {
+			eviction = null;
+		} else {
+			eviction = new _ContextEviction(wiringContextMap, idleTimeout, maximumSize);
+			eviction.contextCreated();
+		}
+	}
+
+	long getLastAccess() {
+		return lastAccess;
+	}
+
+	boolean isMakingBeans() {
+		return makingBeans.get() > 0;
+	}
+
+	boolean hasLiveChildren() {
+		return liveChildren.get() > 0;
+	}
+
+	/**
+	 * Stops the beans of an evicted context if it was started.
+	 */
+	void stopEvicted() {
+		if (!startedBeans.isEmpty()) {
+			try {
+				stop();
+			} catch (RuntimeException e) {
+				logerror(_WiringHelper.class, () -> "Stopping evicted context failed: " + e, e);
+			}
+		}
+	}
+
 	public static String[] getContextNames() {
 		return wiringContextMap.keySet()
 			.toArray(String[]::new);
 	}
 
+	/**
+	 * @return unmodifiable, weakly consistent view of the context names
+	 */
+	public static Set<String> getContextNameSet() {
+		return contextNames;
+	}
+
 	@Override
 	public String getName() {
 		return contextName;
@@ -100,27 +360,207 @@ public class _WiringHelper implements Injector {
 		return this;
 	}
 
+	@Override
+	public synchronized Injector setProfilingEnabled(boolean enabled) {
+		if (!enabled) {
+			startupProfile = null;
+		} else if (startupProfile == null) {
+			startupProfile = new _StartupProfile();
+		}
+		return this;
+	}
+
 	@Override
 	public <T> Injector defineConstruction(Class<? super T> clz, Supplier<? super T> construction) {
 		return define(clz, construction);
 	}
 
 	private <T> _WiringHelper define(Class<? super T> clz, Supplier<? super T> construction) {
-		String name = clz.getName();
+		checkNotFrozen();
 		if (construction != null) {
-			objectConstructionMap.put(name, construction);
+			ownConstructionTable().put(_BeanId.of(clz), construction);
 		}
 		return this;
 	}
 
+	/**
+	 * @return the construction table, copied from the template before its first
+	 *         modification
+	 */
+	private synchronized _BeanTable<Supplier<?>> ownConstructionTable() {
+		if (constructionShared) {
+			objectConstructionTable = objectConstructionTable.copy();
+			constructionShared = false;
+		}
+		return objectConstructionTable;
+	}
+
 	@Override
 	public <T extends Dependent> Injector makeBeans(Class<T> classDependent) {
 		loginfo(_WiringHelper.class, () -> "Make beans for dependent " + getPrintNameOfClass(classDependent) + " ...");
+		return makeRoots(Collections.singletonList(classDependent), null);
+	}
+
+	@Override
+	public <T extends Dependent> Injector makeBeans(Class<T> classDependent, Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be NULL");
+		}
+		loginfo(_WiringHelper.class,
+				() -> "Make beans in parallel for dependent " + getPrintNameOfClass(classDependent) + " ...");
+		return makeRoots(Collections.singletonList(classDependent), new _ParallelWiring(this, executor));
+	}
+
+	@Override
+	public Injector makeBeans(Collection<Class<? extends Dependent>> classDependents) {
+		List<Class<?>> roots = checkRoots(classDependents);
+		loginfo(_WiringHelper.class, () -> "Make beans for " + roots.size() + " dependents ...");
+		return makeRoots(roots, null);
+	}
+
+	@Override
+	public Injector makeBeans(Collection<Class<? extends Dependent>> classDependents, Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be NULL");
+		}
+		List<Class<?>> roots = checkRoots(classDependents);
+		loginfo(_WiringHelper.class, () -> "Make beans in parallel for " + roots.size() + " dependents ...");
+		return makeRoots(roots, new _ParallelWiring(this, executor));
+	}
+
+	private static List<Class<?>> checkRoots(Collection<? extends Class<?>> classDependents) {
+		if (classDependents == null) {
+			throw new IllegalArgumentException("classDependents must not be NULL or contain NULL");
+		}
+		// contains(null) throws for immutable collections, e.g., List.of
+		Set<Class<?>> roots = new LinkedHashSet<>(classDependents);
+		if (roots.contains(null)) {
+			throw new IllegalArgumentException("classDependents must not be NULL or contain NULL");
+		}
+		return new ArrayList<>(roots);
+	}
+
+	@Override
+	public <T extends Dependent> CompletableFuture<Injector> makeBeansAsync(Class<T> classDependent,
+			Executor executor, Duration timeout) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be NULL");
+		}
+		checkNotFrozen();
+		_AsyncWiring wiring = new _AsyncWiring(this, classDependent, timeout);
+		executor.execute(wiring::run);
+		return wiring.getFuture();
+	}
+
+	/**
+	 * Runs the wiring of an asynchronous makeBeans on the current thread.
+	 */
+	void makeBeansAsync(Class<?> classDependent, _AsyncWiring wiring) {
+		loginfo(_WiringHelper.class,
+				() -> "Make beans asynchronously for dependent " + getPrintNameOfClass(classDependent) + " ...");
+		_AsyncWiring previous = _AsyncWiring.bind(wiring);
+		try {
+			makeRoots(Collections.singletonList(classDependent), null);
+		} finally {
+			_AsyncWiring.bind(previous);
+		}
+	}
+
+	/**
+	 * Removes the beans created by a cancelled or failed asynchronous makeBeans.
+	 * Beans other beans or makeBeans roots depend on are kept with their
+	 * dependencies. While another makeBeans runs all beans are kept, it may hold
+	 * them already, e.g., by waiting for their creation. The same applies to the
+	 * beans of a context with children, they may have inherited them.
+	 * 
+	 * @param rootAdded true if the root was added to the makeBeans roots
+	 */
+	void discard(_AsyncWiring wiring, boolean rootAdded) {
+		if (rootAdded) {
+			makeBeansList.remove(wiring.getRoot());
+		}
+		Set<Integer> createdIds = new HashSet<>(wiring.getCreatedIds());
+		int discarded = 0;
+		synchronized (discardLock) {
+			if (makingBeans.get() == 0 && !hasLiveChildren()) {
+				Set<Object> kept = retainedBeans(wiring, createdIds);
+				for (int id : createdIds) {
+					Object bean = objectTable.get(id);
+					if (bean != null && !kept.contains(bean)) {
+						objectTable.put(id, null);
+						suppliedBeans.remove(id);
+						discarded++;
+					}
+				}
+				for (Object created : wiring.getCreatedObjects()) {
+					if (!kept.contains(created)) {
+						dependencies.remove(created);
+					}
+				}
+			}
+		}
+		int count = discarded;
+		loginfo(_WiringHelper.class, () -> "Make beans for dependent " + getPrintNameOfClass(wiring.getRoot())
+				+ " cancelled, discarded " + count + " of " + createdIds.size() + " beans.");
+	}
+
+	/**
+	 * @return the beans of the wiring a bean of another wiring or a root depends
+	 *         on, directly or transitively
+	 */
+	private Set<Object> retainedBeans(_AsyncWiring wiring, Set<Integer> createdIds) {
+		Deque<Integer> open = new ArrayDeque<>();
+		dependencies.forEach((dependent, targets) -> {
+			if (!wiring.isCreated(dependent)) {
+				for (int target : targets) {
+					if (createdIds.contains(_DependencyGraph.idOf(target))) {
+						open.push(_DependencyGraph.idOf(target));
+					}
+				}
+			}
+		});
+		for (Class<?> root : makeBeansList) {
+			if (createdIds.contains(_BeanId.of(root))) {
+				open.push(_BeanId.of(root));
+			}
+		}
+		Set<Object> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+		while (!open.isEmpty()) {
+			Object bean = objectTable.get(open.pop());
+			if (bean != null && kept.add(bean)) {
+				for (int target : getDependencyIds(bean)) {
+					if (createdIds.contains(_DependencyGraph.idOf(target))) {
+						open.push(_DependencyGraph.idOf(target));
+					}
+				}
+			}
+		}
+		return kept;
+	}
+
+	/**
+	 * Creates the given roots within one context binding, beans shared by the
+	 * roots are created once. Other threads may wire the same context
+	 * concurrently, see {@link #getOrCreateObject(Class)}.
+	 */
+	private Injector makeRoots(List<Class<?>> roots, _ParallelWiring wiring) {
+		checkNotFrozen();
 		StopWatch start = StopWatch.start();
+		synchronized (discardLock) {
+			makingBeans.incrementAndGet();
+		}
+		_WiringHelper previousContext = null;
 		try {
-			setThreadContext(contextName);
-			getOrCreateObjectImpl(classDependent);
-			makeBeansList.add(classDependent.getName());
+			previousContext = enterThreadContext(contextName);
+			if (wiring == null) {
+				for (Class<?> root : roots) {
+					getOrCreateObject(root);
+					makeBeansList.add(root);
+				}
+			} else {
+				wiring.makeBeans(roots);
+				makeBeansList.addAll(roots);
+			}
 		} catch (ContextMismatchException | BeanOutOfContextCreationException | CyclicDependencyException
 				| ConstructionMissingException | DependencyCreationException e) {
 			throw e;
@@ -131,9 +571,17 @@ public class _WiringHelper implements Injector {
 				throw new MakeBeansException(e);
 			}
 		} finally {
-			resetThreadContext();
+			makingBeans.decrementAndGet();
+			lastAccess = System.nanoTime();
+			restoreThreadContext(previousContext);
+		}
+		long millis = start.stop();
+		if (roots.size() == 1) {
+			loginfo(_WiringHelper.class, () -> "Make beans finished in " + millis + "ms.");
+		} else {
+			loginfo(_WiringHelper.class,
+					() -> "Make beans for " + roots.size() + " dependents finished in " + millis + "ms.");
 		}
-		loginfo(_WiringHelper.class, () -> "Make beans finished in " + start.stop() + "ms.");
 		return this;
 	}
 
@@ -144,82 +592,245 @@ public class _WiringHelper implements Injector {
 		} else {
 			loginfo(_WiringHelper.class, () -> "Start beans...");
 			StopWatch start = StopWatch.start();
-			for (String name : makeBeansList) {
-				Dependent object = (Dependent) objectMap.get(name);
-				startDependencies(name, object);
+			for (Class<?> clz : makeBeansList) {
+				startDependencies(findBean(clz), null);
 			}
+			started = true;
+			stopped = false;
 			loginfo(_WiringHelper.class, () -> "Start beans finished in " + start.stop() + "ms.");
 		}
 		return this;
 	}
 
-	private void startDependencies(String name, Object object) {
-		if (objectStartedSet.contains(name)) {
+	@Override
+	public Injector start(Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be NULL");
+		}
+		if (makeBeansList.isEmpty()) {
+			logerror(_WiringHelper.class, () -> "No class injection done yet, see .makeBeans(...).");
+		} else {
+			loginfo(_WiringHelper.class, () -> "Start beans in parallel...");
+			StopWatch start = StopWatch.start();
+			new _ParallelLifecycle(this, executor).start();
+			started = true;
+			stopped = false;
+			loginfo(_WiringHelper.class, () -> "Start beans finished in " + start.stop() + "ms.");
+		}
+		return this;
+	}
+
+	private void startDependencies(Object object, Object dependent) {
+		if (startedBeans.contains(_BeanId.of(object.getClass())) || !owns(object)) {
 			return;
 		}
 
-		if (object instanceof Dependent) {
-			List<Dependency<?>> dependencies = getDependencies((Dependent) object);
-			if (dependencies != null) {
-				for (Dependency<?> dep : dependencies) {
-					startDependencies(dep.get()
-						.getClass()
-						.getName(), dep.get());
-				}
+		StopWatch start = StopWatch.start();
+		for (int target : getDependencyIds(object)) {
+			Object targetObject = getTarget(target);
+			if (targetObject != null) {
+				startDependencies(targetObject, object);
 			}
 		}
-		if (objectMap.get(name) instanceof Lifecycle) {
-			StopWatch start = StopWatch.start();
-			((Lifecycle) objectMap.get(name)).start();
-			objectStartedSet.add(name);
-			loginfo(_WiringHelper.class, () -> "Started " + getPrintName(this.getTypedObject(name))
-					+ " using Lifecycle in " + start.stop() + "ms.");
+		_StartupProfile profile = startupProfile;
+		if (startBean(object, dependent) && profile != null) {
+			profile.startedInclusive(object, start.stopNanos());
 		}
 	}
 
+	/**
+	 * Starts the bean if it implements {@link Lifecycle} and is not started yet.
+	 * 
+	 * @return true if the bean was started
+	 */
+	boolean startBean(Object object) {
+		return startBean(object, null);
+	}
+
+	private boolean startBean(Object object, Object dependent) {
+		int id = _BeanId.of(object.getClass());
+		// claimed before the start, lazy creations on other threads may start it too
+		if (!(object instanceof Lifecycle) || !startedBeans.add(id)) {
+			return false;
+		}
+		StopWatch start = StopWatch.start();
+		Object event = _Jfr.beginLifecycle();
+		try {
+			((Lifecycle) object).start();
+		} catch (Throwable t) {
+			startedBeans.remove(id);
+			throw t;
+		}
+		_Jfr.endLifecycle(event, contextName, "start", object, dependent);
+		_StartupProfile profile = startupProfile;
+		if (profile != null) {
+			profile.started(object, start.stopNanos());
+		}
+		loginfo(_WiringHelper.class,
+				() -> "Started " + getPrintName(object) + " using Lifecycle in " + start.stop() + "ms.");
+		return true;
+	}
+
+	/**
+	 * Resets a bean stopped by the rollback of a failed start, a later start and
+	 * stop treat it as never started.
+	 */
+	void unmarkStarted(Object object) {
+		int id = _BeanId.of(object.getClass());
+		startedBeans.remove(id);
+		stoppedBeans.remove(id);
+	}
+
 	@Override
 	public Injector stop() {
 		loginfo(_WiringHelper.class, () -> "Stop beans...");
+		started = false;
+		stopped = true;
 		StopWatch start = StopWatch.start();
-		for (String name : makeBeansList) {
-			Dependent object = (Dependent) objectMap.get(name);
-			stopDependencies(name, object);
+		for (Class<?> clz : makeBeansList) {
+			stopDependencies(findBean(clz), null);
+		}
+		loginfo(_WiringHelper.class, () -> "Stop beans finished in " + start.stop() + "ms.");
+		return this;
+	}
+
+	@Override
+	public Injector stop(Executor executor, Duration timeout, Duration beanTimeout) {
+		if (executor == null || timeout == null || beanTimeout == null) {
+			throw new IllegalArgumentException("executor and timeouts must not be NULL");
 		}
+		loginfo(_WiringHelper.class, () -> "Stop beans in parallel...");
+		started = false;
+		stopped = true;
+		StopWatch start = StopWatch.start();
+		new _ParallelLifecycle(this, executor).stop(timeout, beanTimeout);
 		loginfo(_WiringHelper.class, () -> "Stop beans finished in " + start.stop() + "ms.");
 		return this;
 	}
 
-	private void stopDependencies(String name, Object object) {
-		if (objectStoppedSet.contains(name)) {
+	private void stopDependencies(Object object, Object dependent) {
+		if (stoppedBeans.contains(_BeanId.of(object.getClass())) || !owns(object)) {
 			return;
 		}
 
-		if (objectMap.get(name) instanceof Lifecycle) {
-			StopWatch start = StopWatch.start();
-			((Lifecycle) objectMap.get(name)).stop();
-			objectStoppedSet.add(name);
-			loginfo(_WiringHelper.class, () -> "Stopped " + getPrintName(this.getTypedObject(name))
-					+ " using Lifecycle in " + start.stop() + "ms.");
-		}
-		if (object instanceof Dependent) {
-			List<Dependency<?>> dependencies = getDependencies((Dependent) object);
-			if (dependencies != null) {
-				for (Dependency<?> dep : dependencies) {
-					stopDependencies(dep.get()
-						.getClass()
-						.getName(), dep.get());
-				}
+		stopBean(object, dependent);
+		for (int target : getDependencyIds(object)) {
+			Object targetObject = getTarget(target);
+			if (targetObject != null) {
+				stopDependencies(targetObject, object);
 			}
 		}
 	}
 
+	/**
+	 * Stops the bean if it implements {@link Lifecycle} and is not stopped yet.
+	 * 
+	 * @return true if the bean was stopped
+	 */
+	boolean stopBean(Object object) {
+		return stopBean(object, null);
+	}
+
+	private boolean stopBean(Object object, Object dependent) {
+		int id = _BeanId.of(object.getClass());
+		// claimed before the stop, a sequential and a parallel stop may race for it
+		if (!(object instanceof Lifecycle) || !stoppedBeans.add(id)) {
+			return false;
+		}
+		StopWatch start = StopWatch.start();
+		Object event = _Jfr.beginLifecycle();
+		try {
+			((Lifecycle) object).stop();
+		} catch (Throwable t) {
+			stoppedBeans.remove(id);
+			throw t;
+		}
+		_Jfr.endLifecycle(event, contextName, "stop", object, dependent);
+		loginfo(_WiringHelper.class,
+				() -> "Stopped " + getPrintName(object) + " using Lifecycle in " + start.stop() + "ms.");
+		return true;
+	}
+
+	List<Class<?>> getMakeBeansClasses() {
+		return makeBeansList;
+	}
+
 	@Override
 	public <T> T getBean(Class<T> clz) {
-		return get(clz.getName());
+		T bean = findBean(clz);
+		_InjectorMetrics counters = metrics;
+		if (counters != null) {
+			if (bean != null) {
+				counters.hit();
+			} else {
+				counters.miss();
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Like {@link #getBean(Class)} for internal callers, not counted as hit or
+	 * miss.
+	 */
+	<T> T findBean(Class<T> clz) {
+		int id = _BeanId.of(clz);
+		T bean = get(id);
+		if (bean == null && parent != null && objectConstructionTable.get(id) == null) {
+			bean = parent.getInheritedBean(id);
+		}
+		return bean;
+	}
+
+	private <T> T getInheritedBean(int id) {
+		T bean = get(id);
+		if (bean == null && parent != null && objectConstructionTable.get(id) == null) {
+			bean = parent.getInheritedBean(id);
+		}
+		return bean;
+	}
+
+	/**
+	 * @return false if the bean is resolved from a parent context, its lifecycle
+	 *         is handled by the parent
+	 */
+	boolean owns(Object bean) {
+		return parent == null || parent.getInheritedBean(_BeanId.of(bean.getClass())) != bean;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T get(int id) {
+		_BeanTable<Object> frozen = frozenObjects;
+		if (frozen == null) {
+			Object object = objectTable.get(id);
+			if (object != null || (frozen = frozenObjects) == null) {
+				return (T) object;
+			}
+		}
+		return (T) frozen.get(id);
+	}
+
+	@Override
+	public synchronized Injector freeze() {
+		if (frozenObjects == null) {
+			frozenObjects = objectTable.copy();
+			objectTable.clear();
+			objectConstructionTable = new _BeanTable<>();
+			constructionShared = false;
+			loginfo(_WiringHelper.class, () -> "Frozen with " + dependencies.count() + " dependent beans.");
+		}
+		return this;
+	}
+
+	@Override
+	public boolean isFrozen() {
+		return frozenObjects != null;
 	}
 
-	private <T> T get(String name) {
-		return getTypedObject(name);
+	private void checkNotFrozen() {
+		if (frozenObjects != null) {
+			throw new ContextFrozenException(String.format("Context '%s' is frozen.", contextName));
+		}
 	}
 
 	@Override
@@ -229,136 +840,371 @@ public class _WiringHelper implements Injector {
 	}
 
 	// A -> B
-	private String indent = "";
-	private Set<String> traversedObjects = new HashSet<>();
-
 	@Override
 	public Injector print(PrintStream out) {
-		for (String name : makeBeansList) {
-			Object object = objectMap.get(name);
+		for (Class<?> clz : makeBeansList) {
+			String name = clz.getName();
+			Object object = findBean(clz);
 			if (object instanceof Dependent) {
-				String depName = getPrintName(name, object);
-				out.print(indent);
-				out.println(depName);
+				out.println(getPrintName(name, object));
+				Set<String> traversedObjects = new HashSet<>();
 				traversedObjects.add(name);
-				printDependencies(out, (Dependent) object);
+				printDependencies(out, (Dependent) object, traversedObjects);
 			}
-			traversedObjects.clear();
 		}
 		return this;
 	}
 
-	private void printDependencies(PrintStream out, Dependent object) {
-		List<Dependency<?>> dependencies = getDependencies(object);
-		indent += "  ";
-		if (dependencies != null) {
-			for (Dependency<?> dep : dependencies) {
-				out.print(indent);
-				out.print("-> ");
-				Object target = dep.get();
-				if (target == null) {
-					out.println("UNRESOLVED dependency to: " + dep.getTargetClass()
-						.getName());
-				} else {
-					String targetName = target.getClass()
-						.getName();
-					String targetNameToPrint = getPrintName(targetName, target);
-					out.println(targetNameToPrint);
-					if (!traversedObjects.contains(targetName)) {
-						traversedObjects.add(targetName);
-						if (Dependent.class.isAssignableFrom(dep.get()
-							.getClass())) {
-							printDependencies(out, (Dependent) dep.get());
-						}
-					}
+	private void printDependencies(PrintStream out, Dependent root, Set<String> traversedObjects) {
+		// per level the dependencies and the index of the next one
+		Deque<int[]> open = new ArrayDeque<>();
+		Deque<int[]> next = new ArrayDeque<>();
+		open.push(getDependencyIds(root));
+		next.push(new int[1]);
+		while (!open.isEmpty()) {
+			int[] dependencies = open.peek();
+			int[] index = next.peek();
+			if (index[0] == dependencies.length) {
+				open.pop();
+				next.pop();
+				continue;
+			}
+			int dep = dependencies[index[0]++];
+			for (int i = 0; i < open.size(); i++) {
+				out.print("  ");
+			}
+			out.print("-> ");
+			Object target = getTarget(dep);
+			if (target == null) {
+				out.println((_DependencyGraph.isLazy(dep) ? "DEFERRED" : "UNRESOLVED") + " dependency to: "
+						+ getTargetClassName(dep));
+			} else {
+				String targetName = target.getClass()
+					.getName();
+				out.println(getPrintName(targetName, target));
+				if (traversedObjects.add(targetName) && target instanceof Dependent) {
+					open.push(getDependencyIds(target));
+					next.push(new int[1]);
 				}
 			}
 		}
-		indent = indent.substring(0, indent.length() - 2);
 	}
 
-	@SuppressWarnings("unchecked")
-	private <T> T getTypedObject(String name) {
-		return (T) objectMap.get(name);
+	@Override
+	public Injector exportGraph(Writer out, GraphFormat format, boolean withTimings) {
+		if (out == null || format == null) {
+			throw new IllegalArgumentException("out and format must not be NULL");
+		}
+		try {
+			new _GraphExporter(this, out, format, withTimings).export(getRootBeans());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
 	}
 
-	private Object getOrCreateObjectImpl(Class<?> clz) throws Exception {
-		String name = clz.getName();
-		if (!objectMap.containsKey(name)) {
-			objectCreationPending.add(name);
-			StopWatch start = StopWatch.start();
-			final Object newObject;
-			if (objectConstructionMap.containsKey(name)) {
-				newObject = objectConstructionMap.get(name)
-					.get();
-				loginfo(_WiringHelper.class,
-						() -> "Created " + getPrintName(newObject) + " using Supplier in " + start.stop() + "ms.");
-				if (!newObject.getClass()
-					.getName()
-					.equals(name)) {
-					String nameImpl = newObject.getClass()
-						.getName();
-					objectMap.put(nameImpl, newObject);
-				}
-			} else {
-				if (clz.isInterface()) {
-					throw new ConstructionMissingException("Construction needed for interface '" + clz.getName()
-							+ "', use Injector#defineConstruction(...).");
+	@Override
+	public Injector exportGraph(OutputStream out, GraphFormat format, boolean withTimings) {
+		if (out == null) {
+			throw new IllegalArgumentException("out must not be NULL");
+		}
+		return exportGraph(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), format,
+				withTimings);
+	}
+
+	/**
+	 * @return timing of the bean or null if not recorded
+	 */
+	BeanTiming getBeanTiming(Object bean) {
+		_StartupProfile profile = startupProfile;
+		return profile != null ? profile.timingOf(bean) : null;
+	}
+
+	/**
+	 * Returns the bean or creates it once, threads asking for a bean in creation
+	 * wait for it.
+	 * 
+	 * @throws CyclicDependencyException if the bean is in creation by this thread
+	 *                                   or by a thread waiting for this thread
+	 */
+	Object getOrCreateObject(Class<?> clz) throws Exception {
+		int id = _BeanId.of(clz);
+		Object object = get(id);
+		if (object != null) {
+			return object;
+		}
+		return creations.create(clz, () -> {
+			Object created = get(id);
+			return created != null ? created : inheritOrCreateObject(clz);
+		});
+	}
+
+	/**
+	 * Resolves the bean from the parent context if this context does not define a
+	 * construction for it, otherwise creates it. An inherited bean is registered
+	 * in this context, so further lookups do not walk the parent chain.
+	 */
+	private Object inheritOrCreateObject(Class<?> clz) throws Exception {
+		Object object = inherit(clz, _BeanId.of(clz));
+		return object != null ? object : createObject(clz);
+	}
+
+	private Object inherit(Class<?> clz, int id) throws Exception {
+		if (parent == null || objectConstructionTable.get(id) != null) {
+			return null;
+		}
+		Object object = parent.provide(clz, id);
+		if (object != null && frozenObjects == null) {
+			objectTable.put(id, object);
+			loginfo(_WiringHelper.class,
+					() -> "Inherited " + getPrintName(clz.getName(), object) + " from '" + parent.contextName + "'.");
+		}
+		return object;
+	}
+
+	/**
+	 * @return the bean of this context or of a parent, or a new bean if this
+	 *         context defines a construction for it
+	 */
+	private Object provide(Class<?> clz, int id) throws Exception {
+		Object object = get(id);
+		if (object == null) {
+			object = inherit(clz, id);
+		}
+		if (object == null && objectConstructionTable.get(id) != null) {
+			object = getObjectLazily(clz);
+		}
+		return object;
+	}
+
+	/**
+	 * Creates the bean using its construction supplier or its default constructor
+	 * and registers it.
+	 */
+	Object createObject(Class<?> clz) throws Exception {
+		checkNotFrozen();
+		_AsyncWiring async = _AsyncWiring.current(this);
+		if (async != null) {
+			async.checkNotCancelled();
+		}
+		int id = _BeanId.of(clz);
+		StopWatch start = StopWatch.start();
+		_StartupProfile profile = startupProfile;
+		long enclosingNested = profile != null ? profile.constructionTimer.begin() : 0;
+		Object event = _Jfr.beginConstruction(clz);
+		Object newObject = null;
+		try {
+			newObject = construct(clz, id, start);
+		} finally {
+			_Jfr.endConstruction(event, contextName, clz);
+			long nanos = start.stopNanos();
+			if (profile != null) {
+				long exclusiveNanos = profile.constructionTimer.end(enclosingNested, nanos);
+				if (newObject != null) {
+					profile.constructed(newObject, nanos, exclusiveNanos);
 				}
-				newObject = clz.getDeclaredConstructor()
-					.newInstance();
-				loginfo(_WiringHelper.class, () -> "Created " + getPrintName(newObject)
-						+ " using default consctructor in " + start.stop() + "ms.");
 			}
-			objectMap.put(name, newObject);
+			_InjectorMetrics counters = metrics;
+			if (newObject != null && counters != null) {
+				counters.constructed(nanos);
+			}
+		}
+		if (newObject.getClass() != clz) {
+			objectTable.put(_BeanId.of(newObject.getClass()), newObject);
+			if (async != null) {
+				async.created(_BeanId.of(newObject.getClass()), newObject);
+			}
+		}
+		objectTable.put(id, newObject);
+		if (async != null) {
+			async.created(id, newObject);
+		}
+		return newObject;
+	}
+
+	private Object construct(Class<?> clz, int id, StopWatch start) throws Exception {
+		final Object newObject;
+		Supplier<?> construction = objectConstructionTable.get(id);
+		if (construction != null) {
+			newObject = construction.get();
+			if (newObject != null && newObject.getClass() == clz) {
+				suppliedBeans.add(id);
+			}
+			loginfo(_WiringHelper.class,
+					() -> "Created " + getPrintName(newObject) + " using Supplier in " + start.stop() + "ms.");
+		} else {
+			if (clz.isInterface()) {
+				throw new ConstructionMissingException("Construction needed for interface '" + clz.getName()
+						+ "', use Injector#defineConstruction(...).");
+			}
+			Constructor<?> constructor = template != null ? template.getConstructor(clz) : clz.getDeclaredConstructor();
+			newObject = constructor.newInstance();
+			loginfo(_WiringHelper.class, () -> "Created " + getPrintName(newObject)
+					+ " using default consctructor in " + start.stop() + "ms.");
+		}
+		return newObject;
+	}
+
+	@Override
+	public StartupProfile getStartupProfile() {
+		_StartupProfile profile = startupProfile;
+		if (profile == null) {
+			return new StartupProfile(Collections.emptyList(), Collections.emptyList());
+		}
+		return profile.snapshot(getRootBeans(), this::getDependencyBeans);
+	}
+
+	@Override
+	public WiringPlan getWiringPlan() {
+		Map<Object, Integer> indexes = new IdentityHashMap<>();
+		List<Object> beans = new ArrayList<>();
+		Deque<Iterator<Object>> open = new ArrayDeque<>();
+		open.push(getRootBeans().iterator());
+		while (!open.isEmpty()) {
+			Iterator<Object> next = open.peek();
+			if (!next.hasNext()) {
+				open.pop();
+				continue;
+			}
+			Object bean = next.next();
+			if (!indexes.containsKey(bean)) {
+				indexes.put(bean, beans.size());
+				beans.add(bean);
+				open.push(getDependencyBeans(bean).iterator());
+			}
+		}
+		List<WiringPlan.Bean> planned = new ArrayList<>(beans.size());
+		for (Object bean : beans) {
+			int[] dependencies = getDependencyBeans(bean).stream()
+				.mapToInt(indexes::get)
+				.toArray();
+			BeanTiming timing = getBeanTiming(bean);
+			planned.add(new WiringPlan.Bean(bean.getClass()
+				.getName(), timing != null ? timing.getConstructionNanos() : 0,
+					timing != null ? timing.getConstructionExclusiveNanos() : 0, dependencies,
+					suppliedBeans.contains(_BeanId.of(bean.getClass()))));
 		}
-		handleRecursiveDependencies(name);
-		return objectMap.get(name);
+		List<String> roots = new ArrayList<>();
+		for (Class<?> clz : makeBeansList) {
+			roots.add(clz.getName());
+		}
+		return new WiringPlan(roots, planned);
 	}
 
-	private void handleRecursiveDependencies(String name) {
-		objectCreationPending.remove(name);
+	private List<Object> getRootBeans() {
+		List<Object> roots = new ArrayList<>();
+		for (Class<?> clz : makeBeansList) {
+			Object root = findBean(clz);
+			if (root != null) {
+				roots.add(root);
+			}
+		}
+		return roots;
 	}
 
-	private <T> Object getOrCreateObject(Class<?> targetClass) throws Exception {
-		if (objectCreationPending.contains(targetClass.getName())) {
-			// TODO track dependent and log it
-			throw new CyclicDependencyException("Cyclic dependency to " + getPrintNameOfClass(targetClass));
+	private List<Object> getDependencyBeans(Object object) {
+		List<Object> beans = new ArrayList<>();
+		for (int target : getDependencyIds(object)) {
+			Object targetObject = getTarget(target);
+			if (targetObject != null) {
+				beans.add(targetObject);
+			}
 		}
-		return getOrCreateObjectImpl(targetClass);
+		return beans;
 	}
 
 	/**
 	 * Clears all injectors.
 	 */
 	public static void removeAll() {
-		synchronized (wiringContextMap) {
-			wiringContextMap.clear();
-			threadContext.set(null);
+		for (_WiringHelper wiring : wiringContextMap.values()) {
+			if (wiringContextMap.remove(wiring.contextName, wiring)) {
+				wiring.removed();
+			}
 		}
+		threadContext.remove();
 	}
 
 	@Override
 	public Injector remove() {
-		synchronized (wiringContextMap) {
-			wiringContextMap.remove(contextName);
-			return this;
+		if (wiringContextMap.remove(contextName, this)) {
+			removed();
 		}
+		return this;
 	}
 
-	public static _WiringHelper setThreadContext(String ctx) {
-		String contextName = threadContext.get();
-		if (contextName != null && !ctx.equals(contextName)) {
+	/**
+	 * Binds the named context to the current thread until
+	 * {@link #restoreThreadContext(_WiringHelper)} is invoked with the returned
+	 * previous binding. A nested binding of the same context is allowed.
+	 * 
+	 * @return the previously bound context or null
+	 * @throws ContextMismatchException if another context is bound
+	 */
+	public static _WiringHelper enterThreadContext(String ctx) {
+		_WiringHelper bound = threadContext.get();
+		if (bound != null && !ctx.equals(bound.contextName)) {
 			throw new ContextMismatchException(String.format(
-					"Initialization of context '%s' is not finisihed. New context '%s' cannot be created.", contextName,
-					ctx));
+					"Initialization of context '%s' is not finisihed. New context '%s' cannot be created.",
+					bound.contextName, ctx));
 		}
-		_WiringHelper context = getContext(ctx);
+		_WiringHelper context = bound != null ? bound : getContext(ctx);
 		if (context == null) {
 			throw new IllegalStateException(String.format("Context '%s' does not exist.", ctx));
 		}
+		threadContext.set(context);
+		return bound;
+	}
+
+	/**
+	 * Binds the context to the current thread without checking a previous binding,
+	 * used for tasks of a parallel wiring or of a hand-off to another thread.
+	 * 
+	 * @return the previously bound context or null
+	 */
+	static _WiringHelper bindThreadContext(_WiringHelper ctx) {
+		_WiringHelper previous = threadContext.get();
 		threadContext.set(ctx);
-		return context;
+		return previous;
+	}
+
+	/**
+	 * Restores the previous binding, the thread local entry is removed if there
+	 * was none. With that no entries are left in pooled or virtual threads.
+	 */
+	public static void restoreThreadContext(_WiringHelper previous) {
+		if (previous == null) {
+			threadContext.remove();
+		} else {
+			threadContext.set(previous);
+		}
+	}
+
+	@Override
+	public Runnable bindContext(Runnable task) {
+		if (task == null) {
+			throw new IllegalArgumentException("task must not be NULL");
+		}
+		_AsyncWiring async = _AsyncWiring.current(this);
+		_BeanCreations.Scope creations = _BeanCreations.currentScope();
+		return () -> {
+			_WiringHelper previous = bindThreadContext(this);
+			_AsyncWiring previousAsync = _AsyncWiring.bind(async);
+			try {
+				_BeanCreations.runHandedOff(creations, task);
+			} finally {
+				_AsyncWiring.bind(previousAsync);
+				restoreThreadContext(previous);
+			}
+		};
+	}
+
+	@Override
+	public Executor bindContext(Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be NULL");
+		}
+		return task -> executor.execute(bindContext(task));
 	}
 
 	public static _WiringHelper getContext(String contextName) {
@@ -366,15 +1212,11 @@ public class _WiringHelper implements Injector {
 	}
 
 	public static _WiringHelper getThreadContext() throws _NoContextDefinedException {
-		String contextName = threadContext.get();
-		if (contextName == null) {
+		_WiringHelper context = threadContext.get();
+		if (context == null) {
 			throw new _NoContextDefinedException();
 		}
-		return getContext(contextName);
-	}
-
-	public static void resetThreadContext() {
-		threadContext.set(null);
+		return context;
 	}
 
 	/**
@@ -385,15 +1227,47 @@ public class _WiringHelper implements Injector {
 	 *            if A depends on B
 	 */
 	public void addNewDependency(Dependent d, Dependency<?> dep) {
-		if (!dependencies.containsKey(d)) {
-			dependencies.put(d, new ArrayList<Dependency<?>>());
+		dependencies.add(d, _BeanId.of(dep.getTargetClass()), dep.isDeferred());
+		_AsyncWiring async = _AsyncWiring.current(this);
+		if (async != null) {
+			async.dependentCreated(d);
+		}
+		_ParallelWiring wiring = _ParallelWiring.current(this);
+		if (wiring != null && !dep.isDeferred()) {
+			wiring.addInjected(dep);
 		}
-		dependencies.get(d)
-			.add(dep);
 	}
 
-	public List<Dependency<?>> getDependencies(Dependent dependent) {
-		return dependencies.get(dependent);
+	/**
+	 * Internal use only! The {@link Dependency} proxies are not kept, the edges of
+	 * the graph are stored as bean ids.
+	 * 
+	 * @return encoded bean ids of the targets of the dependent or null if unknown
+	 */
+	public int[] getDependencies(Dependent dependent) {
+		return dependencies.targets(dependent);
+	}
+
+	/**
+	 * @return encoded bean ids of the targets of the bean, see
+	 *         {@link #getTarget(int)}
+	 */
+	int[] getDependencyIds(Object bean) {
+		int[] targets = bean instanceof Dependent ? dependencies.targets(bean) : null;
+		return targets != null ? targets : _DependencyGraph.NONE;
+	}
+
+	/**
+	 * @param target encoded bean id of a dependency target
+	 * @return the target bean or null if it is deferred or unresolved
+	 */
+	Object getTarget(int target) {
+		return getInheritedBean(_DependencyGraph.idOf(target));
+	}
+
+	static String getTargetClassName(int target) {
+		Class<?> clz = _BeanId.classOf(_DependencyGraph.idOf(target));
+		return clz != null ? clz.getName() : "unloaded class";
 	}
 
 	@SuppressWarnings("unchecked")
@@ -401,24 +1275,78 @@ public class _WiringHelper implements Injector {
 		return (T) getOrCreateObject(targetClass);
 	}
 
+	/**
+	 * Internal use only! Creates the target of a {@link LazyDependency} if needed,
+	 * its new beans are started if this injector is started. No lock is held,
+	 * concurrent creations of a bean wait for the first one, see
+	 * {@link _BeanCreations}, and every bean is started once.
+	 * 
+	 * @param targetClass
+	 * @return the target
+	 */
+	public <T> T getObjectLazily(Class<T> targetClass) throws Exception {
+		@SuppressWarnings("unchecked")
+		T object = (T) get(_BeanId.of(targetClass));
+		if (object == null) {
+			_WiringHelper previous = bindThreadContext(this);
+			try {
+				object = getObject(targetClass);
+			} finally {
+				restoreThreadContext(previous);
+			}
+		}
+		if (started && object != null) {
+			startDependencies(object, null);
+		}
+		return object;
+	}
+
+	/**
+	 * Internal use only! Returns true if the current thread creates a bean of a
+	 * parallel {@link #makeBeans(Class, Executor)}, the target of a new dependency
+	 * is then provided by {@link #getObjectLater(Class)}.
+	 */
+	public boolean isParallelWiring() {
+		return _ParallelWiring.current(this) != null;
+	}
+
+	/**
+	 * Internal use only! Submits the creation of the target if needed.
+	 * 
+	 * @param targetClass
+	 * @return supplier waiting for the target object
+	 * @throws CyclicDependencyException if the dependency would close a cycle
+	 */
+	public <T> Supplier<T> getObjectLater(Class<T> targetClass) {
+		return _ParallelWiring.current(this)
+			.request(targetClass);
+	}
+
+	public boolean isInfoEnabled() {
+		return logger.isPresent() && logger.get()
+			.isInfoEnabled();
+	}
+
 	public void loginfo(Class<?> clz, Supplier<String> msg) {
-		if (logger.isPresent()) {
+		if (isInfoEnabled()) {
 			logger.get()
-				.info(contextName, new Throwable().getStackTrace(), msg);
+				.info(contextName, STACK, msg);
 		}
 	}
 
 	public void logerror(Class<?> clz, Supplier<String> msg) {
-		if (logger.isPresent()) {
+		if (logger.isPresent() && logger.get()
+			.isErrorEnabled()) {
 			logger.get()
-				.error(contextName, new Throwable().getStackTrace(), msg);
+				.error(contextName, STACK, msg);
 		}
 	}
 
 	public void logerror(Class<?> clz, Supplier<String> msg, Exception e) {
-		if (logger.isPresent()) {
+		if (logger.isPresent() && logger.get()
+			.isErrorEnabled()) {
 			logger.get()
-				.error(contextName, new Throwable().getStackTrace(), msg, e);
+				.error(contextName, STACK, msg, e);
 		}
 	}
 
@@ -426,7 +1354,7 @@ public class _WiringHelper implements Injector {
 		return getPrintNameOfClass(object.getClass());
 	}
 
-	private static String getPrintNameOfClass(Class<?> clz) {
+	static String getPrintNameOfClass(Class<?> clz) {
 		return clz.getSimpleName() + " (" + clz.getName() + ")";
 	}
 
@@ -1,5 +1,6 @@
 package coded.dependency.injection;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -37,6 +38,17 @@ public class AnonymousClientDependencyTest extends TestBase {
 		app.start();
 	}
 
+	@Test
+	public void testAnonymousClientsOfSameClass() {
+		MyAnonymousApp app1 = new MyAnonymousApp();
+		MyAnonymousApp app2 = new MyAnonymousApp();
+
+		_WiringHelper helper = _WiringHelper.getContext(MyAnonymousApp.APPCONTEXT);
+		assertEquals(1, helper.getDependencies(app1).length);
+		assertEquals(1, helper.getDependencies(app2).length);
+		assertTrue(app1.a.get() == app2.a.get());
+	}
+
 	@Test(expected = ContextMismatchException.class)
 	public void testContextConflictException_makeBeans() {
 		Injector.getContext("app")
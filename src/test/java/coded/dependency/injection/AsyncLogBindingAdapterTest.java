@@ -0,0 +1,219 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import coded.dependency.injection.AsyncLogBindingAdapter.OverflowPolicy;
+import coded.dependency.injection.internal.fortest.A;
+
+public class AsyncLogBindingAdapterTest extends TestBase {
+
+	/**
+	 * Blocks the writer thread until released.
+	 */
+	private static class BlockingWriter extends Writer {
+		final StringWriter target = new StringWriter();
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+					.interrupt();
+			}
+			target.write(cbuf, off, len);
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static long countLines(String logs, String text) {
+		return logs.lines()
+			.filter(line -> line.contains(text))
+			.count();
+	}
+
+	@Test
+	public void testPendingLinesWrittenOnStop() {
+		StringWriter logs = new StringWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(logs), 1024, OverflowPolicy.BLOCK);
+		logger.start();
+		Injector.getContext("app")
+			.setLogger(logger)
+			.makeBeans(A.class);
+		logger.stop();
+
+		assertEquals(1, countLines(logs.toString(), "Make beans finished"));
+		assertEquals(4, countLines(logs.toString(), "Created "));
+		assertEquals(0, logger.getDroppedCount());
+	}
+
+	@Test
+	public void testDropDoesNotBlock() {
+		BlockingWriter writer = new BlockingWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(writer), 2, OverflowPolicy.DROP);
+		logger.start();
+		for (int i = 0; i < 100; i++) {
+			Injector.getContext("app" + i)
+				.setLogger(logger)
+				.makeBeans(A.class);
+		}
+		assertTrue(logger.getDroppedCount() > 0);
+
+		writer.release.countDown();
+		logger.stop();
+		assertTrue(writer.target.toString()
+			.contains(" log lines dropped"));
+	}
+
+	@Test
+	public void testDroppedLinesReported() {
+		BlockingWriter writer = new BlockingWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(writer), 2, OverflowPolicy.DROP);
+		logger.start();
+		for (int i = 0; i < 100; i++) {
+			Injector.getContext("app" + i)
+				.setLogger(logger)
+				.makeBeans(A.class);
+		}
+		writer.release.countDown();
+		logger.stop();
+
+		long reported = writer.target.toString()
+			.lines()
+			.filter(line -> line.endsWith(" log lines dropped"))
+			.mapToLong(line -> Long.parseLong(line.substring(0, line.indexOf(' '))))
+			.sum();
+		assertEquals(logger.getDroppedCount(), reported);
+	}
+
+	@Test
+	public void testStopWakesWriter() {
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(new StringWriter()), 16,
+				OverflowPolicy.DROP);
+		long start = System.nanoTime();
+		for (int i = 0; i < 10; i++) {
+			logger.start();
+			logger.stop();
+		}
+		// the writer is not left to notice the stop on its own
+		assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+	}
+
+	@Test(timeout = 10000)
+	public void testStopWithDeadWriterAndFullBuffer() throws Exception {
+		StringWriter logs = new StringWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(logs), 2, OverflowPolicy.DROP);
+		logger.start();
+		Thread writer = Thread.getAllStackTraces()
+			.keySet()
+			.stream()
+			.filter(thread -> thread.getName()
+				.equals("injector-log-writer"))
+			.findFirst()
+			.orElseThrow();
+		writer.interrupt();
+		writer.join();
+		Injector.getContext("app")
+			.setLogger(logger)
+			.makeBeans(A.class);
+		logger.stop();
+
+		assertTrue(logger.getDroppedCount() > 0);
+		assertTrue(logs.toString()
+			.contains(logger.getDroppedCount() + " log lines dropped"));
+		assertEquals(2, countLines(logs.toString(), "[INFO]"));
+	}
+
+	@Test
+	public void testBlockLosesNothing() throws Exception {
+		BlockingWriter writer = new BlockingWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(writer), 2, OverflowPolicy.BLOCK);
+		logger.start();
+		Thread releaser = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				// release anyway
+			}
+			writer.release.countDown();
+		});
+		releaser.start();
+		for (int i = 0; i < 10; i++) {
+			Injector.getContext("app" + i)
+				.setLogger(logger)
+				.makeBeans(A.class);
+		}
+		logger.close();
+		releaser.join();
+
+		assertEquals(0, logger.getDroppedCount());
+		assertEquals(10, countLines(writer.target.toString(), "Make beans finished"));
+	}
+
+	@Test
+	public void testSampleKeepsSomeLines() {
+		BlockingWriter writer = new BlockingWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(writer), 1, OverflowPolicy.SAMPLE);
+		logger.start();
+		Thread releaser = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				// release anyway
+			}
+			writer.release.countDown();
+		});
+		releaser.start();
+		for (int i = 0; i < 100; i++) {
+			Injector.getContext("app" + i)
+				.setLogger(logger)
+				.makeBeans(A.class);
+		}
+		logger.stop();
+
+		assertTrue(logger.getDroppedCount() > 0);
+		assertTrue(countLines(writer.target.toString(), "[INFO]") > 1);
+	}
+
+	@Test
+	public void testSynchronousUntilStarted() {
+		StringWriter logs = new StringWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(logs), 16, OverflowPolicy.DROP);
+		Injector.getContext("app")
+			.setLogger(logger)
+			.makeBeans(A.class);
+
+		assertEquals(1, countLines(logs.toString(), "Make beans finished"));
+		logger.stop();
+	}
+
+	@Test
+	public void testWriteAfterStop() {
+		StringWriter logs = new StringWriter();
+		AsyncLogBindingAdapter logger = new AsyncLogBindingAdapter(new PrintWriter(logs), 16, OverflowPolicy.DROP);
+		logger.start();
+		logger.stop();
+		Injector.getContext("app")
+			.setLogger(logger)
+			.makeBeans(A.class);
+
+		assertEquals(1, countLines(logs.toString(), "Make beans finished"));
+	}
+}
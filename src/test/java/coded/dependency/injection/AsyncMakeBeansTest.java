@@ -0,0 +1,200 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.exception.ConstructionMissingException;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+import coded.dependency.injection.internal.fortest.MyApplicationImpl;
+
+public class AsyncMakeBeansTest extends TestBase {
+
+	private ExecutorService exec = Executors.newSingleThreadExecutor();
+
+	@After
+	public void afterAsyncMakeBeansTest() {
+		exec.shutdownNow();
+	}
+
+	/**
+	 * A -> B, C: C blocks until it is interrupted, B is created before.
+	 */
+	private CompletableFuture<Injector> makeBeansBlockingInC(CountDownLatch creatingC, Duration timeout) {
+		return Injector.getContext("app")
+			.defineConstruction(C.class, () -> {
+				creatingC.countDown();
+				try {
+					Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return new C();
+			})
+			.makeBeansAsync(A.class, exec, timeout);
+	}
+
+	private void awaitDiscarded(Injector injector) throws Exception {
+		// the discard of the worker runs after the completion of the future
+		exec.submit(() -> {
+		})
+			.get();
+		assertNull(injector.getBean(A.class));
+		assertNull(injector.getBean(B.class));
+		assertNull(injector.getBean(C.class));
+		assertNull(injector.getBean(D.class));
+	}
+
+	@Test
+	public void testCompletes() throws Exception {
+		CountDownLatch called = new CountDownLatch(1);
+		CompletableFuture<Injector> future = Injector.getContext("app")
+			.defineConstruction(B.class, () -> {
+				try {
+					called.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return new B();
+			})
+			.makeBeansAsync(A.class, exec, Duration.ofSeconds(10));
+		assertFalse(future.isDone());
+		called.countDown();
+
+		Injector injector = future.get(10, TimeUnit.SECONDS);
+		assertSame(Injector.getContext("app"), injector);
+		A a = injector.getBean(A.class);
+		assertNotNull(a);
+		assertSame(a.b.get(), injector.getBean(B.class));
+		assertNotNull(injector.getBean(D.class));
+		injector.start();
+		assertTrue(injector.getBean(B.class).isStarted);
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		CountDownLatch creatingC = new CountDownLatch(1);
+		CompletableFuture<Injector> future = makeBeansBlockingInC(creatingC, null);
+		creatingC.await();
+		assertNotNull(Injector.getContext("app")
+			.getBean(B.class));
+
+		assertTrue(future.cancel(true));
+		awaitDiscarded(Injector.getContext("app"));
+	}
+
+	/**
+	 * D -> B: D is made while the cancelled wiring blocks in C, B is kept for D.
+	 */
+	@Test
+	public void testCancelKeepsBeansOfOtherWirings() throws Exception {
+		CountDownLatch creatingC = new CountDownLatch(1);
+		CompletableFuture<Injector> future = makeBeansBlockingInC(creatingC, null);
+		creatingC.await();
+		Injector injector = Injector.getContext("app")
+			.makeBeans(D.class);
+		B b = injector.getBean(B.class);
+		assertNotNull(b);
+
+		assertTrue(future.cancel(true));
+		exec.submit(() -> {
+		})
+			.get();
+		assertNull(injector.getBean(A.class));
+		assertNull(injector.getBean(C.class));
+		assertSame(b, injector.getBean(B.class));
+		assertNotNull(injector.getBean(D.class));
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		CountDownLatch creatingC = new CountDownLatch(1);
+		CompletableFuture<Injector> future = makeBeansBlockingInC(creatingC, Duration.ofMillis(100));
+		try {
+			future.get(10, TimeUnit.SECONDS);
+			fail("timeout expected");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+		awaitDiscarded(Injector.getContext("app"));
+	}
+
+	@Test
+	public void testCancelBeforeRun() throws Exception {
+		CountDownLatch blocked = new CountDownLatch(1);
+		exec.execute(() -> {
+			try {
+				blocked.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+					.interrupt();
+			}
+		});
+		CompletableFuture<Injector> future = Injector.getContext("app")
+			.makeBeansAsync(A.class, exec, null);
+		future.cancel(true);
+		blocked.countDown();
+		awaitDiscarded(Injector.getContext("app"));
+		try {
+			future.join();
+			fail("cancellation expected");
+		} catch (CancellationException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * An interrupt not caused by a cancellation is left to the thread.
+	 */
+	@Test
+	public void testForeignInterruptIsKept() throws Exception {
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(B.class, () -> {
+				Thread.currentThread()
+					.interrupt();
+				return new B();
+			});
+		try {
+			injector.makeBeansAsync(A.class, Runnable::run, null)
+				.join();
+		} finally {
+			assertTrue(Thread.interrupted());
+		}
+		assertNotNull(injector.getBean(A.class));
+	}
+
+	@Test
+	public void testFailure() throws Exception {
+		CompletableFuture<Injector> future = Injector.getContext("app")
+			.makeBeansAsync(MyApplicationImpl.class, exec, null);
+		try {
+			future.get(10, TimeUnit.SECONDS);
+			fail("failure expected");
+		} catch (ExecutionException e) {
+			assertEquals(ConstructionMissingException.class, e.getCause()
+				.getClass());
+		}
+		assertNull(Injector.getContext("app")
+			.getBean(MyApplicationImpl.class));
+	}
+}
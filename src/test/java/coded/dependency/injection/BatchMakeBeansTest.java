@@ -0,0 +1,115 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.exception.CyclicDependencyException;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.A2;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+import coded.dependency.injection.internal.fortest.Interface1;
+import coded.dependency.injection.internal.fortest.Interface1And2Impl;
+import coded.dependency.injection.internal.fortest.Interface1Dependent;
+import coded.dependency.injection.internal.fortest.Interface2;
+import coded.dependency.injection.internal.fortest.Interface2Dependent;
+import coded.dependency.injection.internal.fortest.MainWithCycle;
+
+public class BatchMakeBeansTest extends TestBase {
+
+	private ExecutorService exec = Executors.newFixedThreadPool(4);
+
+	@After
+	public void afterBatchMakeBeansTest() {
+		exec.shutdownNow();
+	}
+
+	/**
+	 * A -> B, C and A2 -> B, C and C -> D -> B
+	 */
+	@Test
+	public void testSharedBeansAreCreatedOnce() {
+		AtomicInteger createdB = new AtomicInteger();
+		StringWriter logs = new StringWriter();
+
+		Injector injector = Injector.getContext("batch")
+			.setLogger(new _LogBindingAdapterCapture(new PrintWriter(logs, true)))
+			.defineConstruction(B.class, () -> {
+				createdB.incrementAndGet();
+				return new B();
+			})
+			.makeBeans(Arrays.asList(A.class, A2.class, A.class));
+
+		assertEquals(1, createdB.get());
+		A a = injector.getBean(A.class);
+		A2 a2 = injector.getBean(A2.class);
+		assertTrue(a.b.get() == a2.b.get());
+		assertTrue(a.c.get() == a2.c.get());
+		assertNotNull(injector.getBean(D.class));
+		assertTrue(logs.toString()
+			.contains("Make beans for 2 dependents ..."));
+		assertTrue(logs.toString()
+			.contains("Make beans for 2 dependents finished in "));
+		assertEquals(1, logs.toString()
+			.split("finished in ", -1).length - 1);
+	}
+
+	@Test
+	public void testRootsAreStarted() {
+		Injector injector = Injector.getContext("batch");
+		injector.defineConstruction(Interface1.class, Interface1And2Impl::new)
+			.defineConstruction(Interface2.class, () -> injector.getBean(Interface1And2Impl.class))
+			.makeBeans(List.of(Interface1Dependent.class, Interface2Dependent.class))
+			.start();
+
+		assertTrue(injector.getBean(Interface1And2Impl.class)
+			.isRunning());
+
+		injector.stop();
+		assertFalse(injector.getBean(Interface1And2Impl.class)
+			.isRunning());
+	}
+
+	@Test
+	public void testParallelRoots() {
+		AtomicInteger createdB = new AtomicInteger();
+
+		Injector injector = Injector.getContext("batch")
+			.defineConstruction(B.class, () -> {
+				createdB.incrementAndGet();
+				return new B();
+			})
+			.makeBeans(Arrays.asList(A.class, A2.class), exec);
+
+		assertEquals(1, createdB.get());
+		assertTrue(injector.getBean(A.class).b.get() == injector.getBean(A2.class).b.get());
+		assertTrue(injector.getBean(A.class).c.get() == injector.getBean(A2.class).c.get());
+		assertNotNull(injector.getBean(D.class));
+	}
+
+	@Test(expected = CyclicDependencyException.class)
+	public void testCycleInBatch() {
+		Injector.getContext("batch")
+			.makeBeans(Arrays.asList(A.class, MainWithCycle.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullRoot() {
+		Injector.getContext("batch")
+			.makeBeans(Arrays.asList(A.class, null));
+	}
+}
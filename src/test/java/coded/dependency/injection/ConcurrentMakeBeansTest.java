@@ -0,0 +1,167 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.exception.CyclicDependencyException;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.A2;
+import coded.dependency.injection.internal.fortest.AtoB;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.BtoA;
+import coded.dependency.injection.internal.fortest.D;
+import coded.dependency.injection.internal.fortest.Interface1;
+import coded.dependency.injection.internal.fortest.Interface1And2Impl;
+import coded.dependency.injection.internal.fortest.Interface1Dependent;
+
+public class ConcurrentMakeBeansTest extends TestBase {
+
+	private static final int THREADS = 8;
+
+	private ExecutorService exec = Executors.newFixedThreadPool(THREADS);
+
+	@After
+	public void afterConcurrentMakeBeansTest() {
+		exec.shutdownNow();
+	}
+
+	/**
+	 * A -> B, C and A2 -> B, C and C -> D -> B, wired sequentially and in parallel
+	 * by all threads at the same time.
+	 */
+	@Test
+	public void testBeansAreCreatedOnce() throws Exception {
+		AtomicInteger createdB = new AtomicInteger();
+		Injector injector = Injector.getContext("session")
+			.defineConstruction(B.class, () -> {
+				createdB.incrementAndGet();
+				sleep(50);
+				return new B();
+			});
+
+		CyclicBarrier go = new CyclicBarrier(THREADS);
+		List<Future<?>> results = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			int kind = i % 3;
+			results.add(exec.submit(() -> {
+				go.await();
+				if (kind == 0) {
+					return injector.makeBeans(A.class);
+				} else if (kind == 1) {
+					return injector.makeBeans(A2.class);
+				}
+				return injector.makeBeans(A.class, ForkJoinPool.commonPool());
+			}));
+		}
+		for (Future<?> result : results) {
+			result.get(10, TimeUnit.SECONDS);
+		}
+
+		assertEquals(1, createdB.get());
+		B b = injector.getBean(B.class);
+		assertTrue(injector.getBean(A.class).b.get() == b);
+		assertTrue(injector.getBean(A2.class).b.get() == b);
+		assertNotNull(injector.getBean(D.class));
+	}
+
+	@Test
+	public void testWiringIsNotBlockedBySlowBean() throws Exception {
+		CountDownLatch releaseB = new CountDownLatch(1);
+		CountDownLatch creatingB = new CountDownLatch(1);
+		Injector injector = Injector.getContext("session")
+			.defineConstruction(B.class, () -> {
+				creatingB.countDown();
+				await(releaseB);
+				return new B();
+			})
+			.defineConstruction(Interface1.class, Interface1And2Impl::new);
+
+		Future<Injector> slow = exec.submit(() -> injector.makeBeans(A.class));
+		assertTrue(creatingB.await(10, TimeUnit.SECONDS));
+
+		injector.makeBeans(Interface1Dependent.class);
+		assertNotNull(injector.getBean(Interface1.class));
+		assertFalse(slow.isDone());
+
+		releaseB.countDown();
+		slow.get(10, TimeUnit.SECONDS);
+		assertNotNull(injector.getBean(A.class));
+	}
+
+	/**
+	 * AtoB -> BtoA -> AtoB, both threads own one bean of the cycle before they ask
+	 * for the other.
+	 */
+	@Test
+	public void testCycleAcrossThreads() throws Exception {
+		CyclicBarrier bothCreating = new CyclicBarrier(2);
+		Injector injector = Injector.getContext("session")
+			.defineConstruction(AtoB.class, () -> {
+				await(bothCreating);
+				return new AtoB();
+			})
+			.defineConstruction(BtoA.class, () -> {
+				await(bothCreating);
+				return new BtoA();
+			});
+
+		Future<Injector> atob = exec.submit(() -> injector.makeBeans(AtoB.class));
+		Future<Injector> btoa = exec.submit(() -> injector.makeBeans(BtoA.class));
+
+		assertCyclic(atob);
+		assertCyclic(btoa);
+	}
+
+	private static void assertCyclic(Future<Injector> result) throws Exception {
+		try {
+			result.get(10, TimeUnit.SECONDS);
+			fail("cycle not detected");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof CyclicDependencyException);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("not released");
+			}
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await(10, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.exception.BeanOutOfContextCreationException;
+import coded.dependency.injection.exception.CyclicDependencyException;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.D;
+
+public class ContextBindingTest extends TestBase {
+
+	private ExecutorService exec = Executors.newSingleThreadExecutor();
+
+	@After
+	public void afterContextBindingTest() {
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void testSupplierHandOffToExecutor() {
+		Injector injector = Injector.getContext("app");
+		injector.defineConstruction(D.class, () -> CompletableFuture.supplyAsync(D::new, injector.bindContext(exec))
+			.join())
+			.makeBeans(A.class);
+
+		assertNotNull(injector.getBean(D.class));
+		assertSame(injector.getBean(B.class), injector.getBean(A.class).b.get());
+	}
+
+	@Test
+	public void testSupplierHandOffToThread() {
+		Injector injector = Injector.getContext("app");
+		injector.defineConstruction(D.class, () -> {
+			AtomicReference<D> d = new AtomicReference<>();
+			Thread thread = new Thread(injector.bindContext(() -> d.set(new D())));
+			thread.start();
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return d.get();
+		})
+			.makeBeans(A.class);
+
+		assertNotNull(injector.getBean(D.class));
+	}
+
+	/**
+	 * D -> B: the supplier of B hands off a D needing B, a cycle.
+	 */
+	@Test(timeout = 10000, expected = CyclicDependencyException.class)
+	public void testHandOffBackToCreatingScope() {
+		Injector injector = Injector.getContext("app");
+		injector.defineConstruction(B.class, () -> CompletableFuture.supplyAsync(() -> {
+			new D();
+			return new B();
+		}, injector.bindContext(exec))
+			.join())
+			.makeBeans(D.class);
+	}
+
+	/**
+	 * D -> B: the supplier of B hands off to another thread, that one hands off a
+	 * D needing B to a third thread.
+	 */
+	@Test(timeout = 10000, expected = CyclicDependencyException.class)
+	public void testHandOffsToEachOther() {
+		ExecutorService other = Executors.newSingleThreadExecutor();
+		try {
+			Injector injector = Injector.getContext("app");
+			injector.defineConstruction(B.class, () -> CompletableFuture.supplyAsync(() -> {
+				CompletableFuture.runAsync(D::new, injector.bindContext(other))
+					.join();
+				return new B();
+			}, injector.bindContext(exec))
+				.join())
+				.makeBeans(D.class);
+		} finally {
+			other.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testNoBindingLeftInPooledThread() throws Exception {
+		Injector injector = Injector.getContext("app");
+		injector.defineConstruction(D.class, () -> CompletableFuture.supplyAsync(D::new, injector.bindContext(exec))
+			.join())
+			.makeBeans(A.class);
+
+		try {
+			exec.submit(D::new)
+				.get();
+			fail("no context expected");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof BeanOutOfContextCreationException);
+		}
+	}
+
+	@Test(expected = BeanOutOfContextCreationException.class)
+	public void testNoBindingLeftAfterMakeBeans() {
+		Injector.getContext("app")
+			.makeBeans(A.class);
+		new D();
+	}
+}
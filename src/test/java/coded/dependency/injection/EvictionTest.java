@@ -0,0 +1,125 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.internal.fortest.MyApplicationImpl;
+import coded.dependency.injection.internal.fortest.MyServiceImplementation;
+import coded.dependency.injection.internal.fortest.MyServiceInterface;
+
+public class EvictionTest extends TestBase {
+
+	@After
+	public void disableEviction() {
+		Injector.disableEviction();
+	}
+
+	private static void awaitContextCount(int count) throws InterruptedException {
+		for (int i = 0; i < 500 && Injector.getContextNameSet()
+			.size() != count; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(count, Injector.getContextNameSet()
+			.size());
+	}
+
+	@Test
+	public void testIdleContextEvictedAndStopped() throws Exception {
+		Injector injector = Injector.getContext("session")
+			.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new)
+			.makeBeans(MyApplicationImpl.class)
+			.start();
+		Injector.setEviction(Duration.ofMillis(50), 0);
+
+		awaitContextCount(0);
+		// the context is removed before it is stopped
+		for (int i = 0; i < 500 && !((MyServiceImplementation) injector.getBean(MyServiceInterface.class))
+			.isStopped(); i++) {
+			Thread.sleep(10);
+		}
+		assertTrue(injector.getBean(MyApplicationImpl.class)
+			.isStopped());
+		assertTrue(((MyServiceImplementation) injector.getBean(MyServiceInterface.class)).isStopped());
+		assertNotSame(injector, Injector.getContext("session"));
+	}
+
+	@Test
+	public void testAccessedContextNotEvicted() throws Exception {
+		Injector.setEviction(Duration.ofMillis(200), 0);
+		Injector injector = Injector.getContext("session");
+		for (int i = 0; i < 10; i++) {
+			Thread.sleep(50);
+			assertTrue(injector == Injector.getContext("session"));
+		}
+	}
+
+	@Test
+	public void testNotStartedContextNotStopped() throws Exception {
+		Injector injector = Injector.getContext("session")
+			.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new)
+			.makeBeans(MyApplicationImpl.class);
+		Injector.setEviction(Duration.ofMillis(50), 0);
+
+		awaitContextCount(0);
+		assertFalse(injector.getBean(MyApplicationImpl.class)
+			.isStopped());
+	}
+
+	@Test
+	public void testMaximumSize() throws Exception {
+		Injector.setEviction(null, 3);
+		for (int i = 0; i < 10; i++) {
+			Injector.getContext("session" + i);
+			Thread.sleep(1);
+		}
+		awaitContextCount(3);
+		Thread.sleep(50);
+		assertEquals(3, Injector.getContextNameSet()
+			.size());
+		assertTrue(Injector.getContextNameSet()
+			.contains("session9"));
+	}
+
+	/**
+	 * The parent is idle but kept while its child is accessed, both are evicted
+	 * after the child became idle.
+	 */
+	@Test
+	public void testParentKeptWhileChildLive() throws Exception {
+		Injector parent = Injector.getContext("app")
+			.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new)
+			.makeBeans(MyApplicationImpl.class)
+			.start();
+		parent.getChildContext("session");
+		Injector.setEviction(Duration.ofMillis(100), 0);
+
+		for (int i = 0; i < 15; i++) {
+			Thread.sleep(20);
+			Injector.getContext("session");
+		}
+		assertTrue(Injector.getContextNameSet()
+			.contains("app"));
+		assertFalse(parent.getBean(MyApplicationImpl.class)
+			.isStopped());
+
+		awaitContextCount(0);
+		for (int i = 0; i < 500 && !parent.getBean(MyApplicationImpl.class)
+			.isStopped(); i++) {
+			Thread.sleep(10);
+		}
+		assertTrue(parent.getBean(MyApplicationImpl.class)
+			.isStopped());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidIdleTimeout() {
+		Injector.setEviction(Duration.ZERO, 0);
+	}
+}
@@ -0,0 +1,119 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.D;
+
+public class FactoryGeneratorTest extends TestBase {
+
+	private static String generate() throws Exception {
+		return generate(Injector.getContext("recorded"));
+	}
+
+	private static String generate(Injector recorded) throws Exception {
+		WiringPlan plan = recorded.setLogger(null)
+			.makeBeans(A.class)
+			.getWiringPlan();
+		Injector.removeAll();
+		StringWriter out = new StringWriter();
+		new FactoryGenerator(FactoryGeneratorTest.class.getClassLoader()).generate(plan, "gen.AppFactory", out);
+		return out.toString();
+	}
+
+	@Test
+	public void testSource() throws Exception {
+		String source = generate();
+
+		assertTrue(source.startsWith("package gen;\n"));
+		assertTrue(source.contains("\tpublic final " + A.class.getName() + " a;\n"));
+		assertTrue(source.contains("\t\tinjector.makeBeans(List.of(" + A.class.getName() + ".class));\n"));
+		assertTrue(source.contains(
+				"\t\tinjector.defineConstruction(" + B.class.getName() + ".class, " + B.class.getName() + "::new);\n"));
+		assertFalse(source.contains("getDeclaredConstructor"));
+	}
+
+	private URLClassLoader compile(Path dir, String source) throws IOException {
+		Path file = dir.resolve("gen/AppFactory.java");
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, source);
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertEquals(0, compiler.run(null, null, null, "-cp", System.getProperty("java.class.path"), "-d",
+				dir.toString(), file.toString()));
+		return new URLClassLoader(new URL[] { dir.toUri()
+			.toURL() }, getClass().getClassLoader());
+	}
+
+	@Test
+	public void testSuppliedBeanKeepsSupplier() throws Exception {
+		String source = generate(Injector.getContext("recorded")
+			.defineConstruction(B.class, B::new));
+
+		assertFalse(source.contains(B.class.getName() + "::new"));
+		assertTrue(source.contains(
+				"\t\tinjector.defineConstruction(" + D.class.getName() + ".class, " + D.class.getName() + "::new);\n"));
+
+		Path dir = Files.createTempDirectory("jcodeddi");
+		try (URLClassLoader loader = compile(dir, source)) {
+			B custom = new B();
+			Injector injector = Injector.getContext("app")
+				.defineConstruction(B.class, () -> custom);
+			Class<?> factoryClass = loader.loadClass("gen.AppFactory");
+			Object factory = factoryClass.getConstructor(Injector.class)
+				.newInstance(factoryClass.getMethod("defineConstructions", Injector.class)
+					.invoke(null, injector));
+			assertSame(custom, factoryClass.getField("b")
+				.get(factory));
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void testCompileAndCreate() throws Exception {
+		Path dir = Files.createTempDirectory("jcodeddi");
+		try (URLClassLoader loader = compile(dir, generate())) {
+			Object factory = loader.loadClass("gen.AppFactory")
+				.getMethod("create", String.class)
+				.invoke(null, "app");
+			Injector injector = Injector.getContext("app");
+			A a = (A) factory.getClass()
+				.getField("a")
+				.get(factory);
+			assertNotNull(a);
+			assertSame(injector.getBean(A.class), a);
+			assertSame(injector.getBean(B.class), factory.getClass()
+				.getField("b")
+				.get(factory));
+		} finally {
+			delete(dir);
+		}
+	}
+
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> paths = Files.walk(dir)) {
+			paths.sorted(Comparator.reverseOrder())
+				.forEach(path -> path.toFile()
+					.delete());
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import coded.dependency.injection.exception.ContextFrozenException;
+import coded.dependency.injection.exception.DependencyCreationException;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.A2;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+import coded.dependency.injection.internal.fortest.MyAnonymousApp;
+
+public class FreezeTest extends TestBase {
+
+	@Test
+	public void testGetBeanFromAnyThread() throws Exception {
+		Injector injector = Injector.getContext("app")
+			.makeBeans(A.class)
+			.freeze();
+		A a = injector.getBean(A.class);
+
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				results.add(pool.submit(() -> injector.getBean(A.class) == a && injector.getBean(B.class) == a.b.get()
+						&& injector.getBean(C.class) == a.c.get() && injector.getBean(D.class) != null
+						&& injector.getBean(A2.class) == null));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertTrue(injector.isFrozen());
+	}
+
+	@Test(expected = ContextFrozenException.class)
+	public void testMakeBeansRejected() {
+		Injector.getContext("app")
+			.makeBeans(A.class)
+			.freeze()
+			.makeBeans(A2.class);
+	}
+
+	@Test(expected = ContextFrozenException.class)
+	public void testDefineConstructionRejected() {
+		Injector.getContext("app")
+			.makeBeans(A.class)
+			.freeze()
+			.defineConstruction(B.class, B::new);
+	}
+
+	@Test(expected = DependencyCreationException.class)
+	public void testBeanCreationRejected() {
+		Injector.getContext(MyAnonymousApp.APPCONTEXT)
+			.makeBeans(C.class)
+			.freeze();
+		new MyAnonymousApp();
+	}
+
+	@Test
+	public void testLifecycleAndPrint() {
+		Injector injector = Injector.getContext("app")
+			.makeBeans(A.class)
+			.freeze()
+			.start();
+		assertTrue(injector.getBean(B.class).isStarted);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		injector.print(new PrintStream(out, true));
+		assertEquals(5, out.toString()
+			.split("\\n").length);
+
+		injector.stop();
+		assertFalse(injector.getBean(B.class).isStarted);
+	}
+
+	@Test
+	public void testExistingBeansStillInjectable() {
+		Injector.getContext(MyAnonymousApp.APPCONTEXT)
+			.makeBeans(A.class)
+			.freeze();
+		MyAnonymousApp app = new MyAnonymousApp();
+
+		assertNotNull(app.a.get());
+		assertNull(Injector.getContext(MyAnonymousApp.APPCONTEXT)
+			.getBean(MyAnonymousApp.class));
+	}
+}
@@ -0,0 +1,127 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import coded.dependency.injection.LazyDependencyTest.Admin;
+import coded.dependency.injection.LazyDependencyTest.Portal;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+
+public class GraphExportTest extends TestBase {
+
+	private static String export(Injector injector, GraphFormat format, boolean withTimings) {
+		StringWriter out = new StringWriter();
+		injector.exportGraph(out, format, withTimings);
+		return out.toString();
+	}
+
+	private static long count(String text, String part) {
+		return Arrays.stream(text.split("\n"))
+			.filter(line -> line.contains(part))
+			.count();
+	}
+
+	/**
+	 * A -> B, C; C -> D -> B: B is written once although it is reached twice.
+	 */
+	@Test
+	public void testDot() {
+		String dot = export(Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class), GraphFormat.DOT, false);
+
+		assertTrue(dot.startsWith("digraph \"app\" {\n"));
+		assertTrue(dot.endsWith("}\n"));
+		assertEquals(4, count(dot, "[label="));
+		assertEquals(4, count(dot, " -> "));
+		assertTrue(dot.contains("  n0 [label=\"A\", tooltip=\"" + A.class.getName() + "\", shape=box];"));
+		assertTrue(dot.contains("  n0 -> n1;"));
+	}
+
+	@Test
+	public void testJson() {
+		String json = export(Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class), GraphFormat.JSON, false);
+
+		assertTrue(json.startsWith("{\"context\":\"app\",\"nodes\":[{\"id\":0,\"name\":\"A\",\"class\":\""
+				+ A.class.getName() + "\",\"root\":true}"));
+		assertEquals(4, json.split("\"class\":")
+			.length - 1);
+		assertEquals(4, json.split("\"from\":")
+			.length - 1);
+		assertTrue(json.endsWith("]}\n"));
+	}
+
+	@Test
+	public void testTimings() {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.setProfilingEnabled(true)
+			.makeBeans(A.class);
+
+		assertTrue(export(injector, GraphFormat.JSON, true).contains("\"constructionNanos\":"));
+		assertTrue(export(injector, GraphFormat.DOT, true).contains("\\nconstruction "));
+	}
+
+	@Test
+	public void testDeferred() {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(Portal.class);
+
+		assertTrue(export(injector, GraphFormat.JSON, false).contains(
+				"\"name\":\"Admin\",\"class\":\"" + Admin.class.getName() + "\",\"state\":\"deferred\"}"));
+		String dot = export(injector, GraphFormat.DOT, false);
+		assertTrue(dot.contains("[label=\"Admin\\ndeferred\""));
+		assertEquals(1, count(dot, "[style=dashed];"));
+	}
+
+	/**
+	 * TwiceB -> B twice: one edge is written.
+	 */
+	@Test
+	public void testDuplicateDependencies() {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(TwiceB.class);
+
+		assertEquals(1, count(export(injector, GraphFormat.DOT, false), " -> "));
+		assertEquals(1, export(injector, GraphFormat.JSON, false).split("\"from\":").length - 1);
+	}
+
+	@Test
+	public void testControlCharacters() {
+		Injector injector = Injector.getContext("app\tcontext")
+			.setLogger(null)
+			.makeBeans(A.class);
+
+		assertTrue(export(injector, GraphFormat.DOT, false).startsWith("digraph \"app\tcontext\" {"));
+		assertTrue(export(injector, GraphFormat.JSON, false).startsWith("{\"context\":\"app\\u0009context\""));
+	}
+
+	@Test
+	public void testOutputStream() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Injector.getContext("app \"quoted\"")
+			.setLogger(null)
+			.makeBeans(A.class)
+			.exportGraph(out, GraphFormat.DOT, false);
+
+		String dot = new String(out.toByteArray(), StandardCharsets.UTF_8);
+		assertTrue(dot.startsWith("digraph \"app \\\"quoted\\\"\" {"));
+	}
+
+	public static class TwiceB implements Dependent {
+		final Dependency<B> b = new Dependency<>(this, B.class);
+		final Dependency<B> again = new Dependency<>(this, B.class);
+	}
+}
@@ -0,0 +1,165 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class HierarchicalContextTest extends TestBase {
+
+	public static class Pool implements Lifecycle {
+		static final AtomicInteger created = new AtomicInteger();
+		boolean running;
+
+		public Pool() {
+			created.incrementAndGet();
+		}
+
+		@Override
+		public void start() {
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+
+	public static class App implements Dependent {
+		final Dependency<Pool> pool = new Dependency<>(this, Pool.class);
+	}
+
+	public static class Session implements Dependent, Lifecycle {
+		final Dependency<Pool> pool = new Dependency<>(this, Pool.class);
+		boolean running;
+
+		@Override
+		public void start() {
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+
+	@Before
+	public void resetCounter() {
+		Pool.created.set(0);
+	}
+
+	@Test
+	public void testExistingParentBean() {
+		Injector app = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(App.class);
+		Injector session = app.getChildContext("session1")
+			.makeBeans(Session.class);
+
+		assertSame(app.getBean(Pool.class), session.getBean(Session.class).pool.get());
+		assertSame(app.getBean(Pool.class), session.getBean(Pool.class));
+		assertSame(app, session.getParent());
+		assertEquals(1, Pool.created.get());
+	}
+
+	@Test
+	public void testCreatedInParent() {
+		Injector app = Injector.getContext("app")
+			.setLogger(null)
+			.defineConstruction(Pool.class, Pool::new);
+		Injector session1 = app.getChildContext("session1")
+			.makeBeans(Session.class);
+		Injector session2 = app.getChildContext("session2")
+			.makeBeans(Session.class);
+
+		assertSame(app.getBean(Pool.class), session1.getBean(Session.class).pool.get());
+		assertSame(app.getBean(Pool.class), session2.getBean(Session.class).pool.get());
+		assertEquals(1, Pool.created.get());
+	}
+
+	@Test
+	public void testChildDefinesOwnBean() {
+		Injector app = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(App.class);
+		Injector session = app.getChildContext("session1")
+			.defineConstruction(Pool.class, Pool::new)
+			.makeBeans(Session.class);
+
+		assertNotSame(app.getBean(Pool.class), session.getBean(Pool.class));
+		assertEquals(2, Pool.created.get());
+	}
+
+	@Test
+	public void testUndefinedBeanCreatedInChild() {
+		Injector app = Injector.getContext("app")
+			.setLogger(null);
+		Injector session = app.getChildContext("session1")
+			.makeBeans(Session.class);
+
+		assertNull(app.getBean(Pool.class));
+		assertSame(session.getBean(Pool.class), session.getBean(Session.class).pool.get());
+	}
+
+	@Test
+	public void testChildLifecycleExcludesParentBeans() {
+		Injector app = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(App.class)
+			.start();
+		Injector session = app.getChildContext("session1")
+			.makeBeans(Session.class)
+			.start();
+		Pool pool = app.getBean(Pool.class);
+
+		assertTrue(session.getBean(Session.class).running);
+		session.stop();
+		assertFalse(session.getBean(Session.class).running);
+		assertTrue(pool.running);
+
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			app.stop();
+			Injector session2 = app.getChildContext("session2")
+				.makeBeans(Session.class)
+				.start(exec);
+			assertTrue(session2.getBean(Session.class).running);
+			assertFalse(pool.running);
+		} finally {
+			exec.shutdown();
+		}
+	}
+
+	@Test
+	public void testParallelMakeBeans() {
+		Injector app = Injector.getContext("app")
+			.setLogger(null)
+			.defineConstruction(Pool.class, Pool::new);
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			Injector session = app.getChildContext("session1")
+				.makeBeans(Session.class, exec);
+			assertSame(app.getBean(Pool.class), session.getBean(Session.class).pool.get());
+		} finally {
+			exec.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNoChild() {
+		Injector app = Injector.getContext("app");
+		Injector.getContext("session1");
+		app.getChildContext("session1");
+	}
+}
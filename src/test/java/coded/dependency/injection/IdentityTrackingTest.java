@@ -0,0 +1,100 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Beans whose equals and hashCode must not be used by the injector, all of them
+ * are equal and every hashCode call is counted.
+ */
+public class IdentityTrackingTest extends TestBase {
+
+	static final AtomicInteger hashCodeCalls = new AtomicInteger();
+
+	public abstract static class Entity implements Dependent, Lifecycle {
+		int starts;
+
+		@Override
+		public int hashCode() {
+			hashCodeCalls.incrementAndGet();
+			return 1;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Entity;
+		}
+
+		@Override
+		public void start() {
+			starts++;
+		}
+
+		@Override
+		public void stop() {
+		}
+	}
+
+	public static class Order extends Entity {
+		final Dependency<Customer> customer = new Dependency<>(this, Customer.class);
+		final Dependency<Item> item = new Dependency<>(this, Item.class);
+	}
+
+	public static class Customer extends Entity {
+		final Dependency<Item> item = new Dependency<>(this, Item.class);
+	}
+
+	public static class Item extends Entity {
+	}
+
+	@Before
+	public void resetCounter() {
+		hashCodeCalls.set(0);
+	}
+
+	@Test
+	public void testSequential() {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(Order.class)
+			.start();
+		injector.print(new PrintStream(new ByteArrayOutputStream(), true));
+		injector.exportGraph(new StringWriter(), GraphFormat.JSON, true);
+		injector.getStartupProfile();
+		injector.getWiringPlan();
+		injector.stop();
+
+		assertEquals(2, injector.getWiringPlan()
+			.getBeans()
+			.get(0)
+			.getDependencies().length);
+		assertEquals(1, injector.getBean(Item.class).starts);
+		assertEquals(0, hashCodeCalls.get());
+	}
+
+	@Test
+	public void testParallel() {
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			Injector injector = Injector.getContext("app")
+				.setLogger(null)
+				.makeBeans(Order.class, exec)
+				.start(exec);
+			assertTrue(injector.getBean(Order.class).customer.get() == injector.getBean(Customer.class));
+			assertEquals(1, injector.getBean(Item.class).starts);
+		} finally {
+			exec.shutdown();
+		}
+		assertEquals(0, hashCodeCalls.get());
+	}
+}
@@ -8,9 +8,17 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import org.junit.After;
 import org.junit.Before;
@@ -126,6 +134,50 @@ public class InjectionTest extends TestBase {
 		assertEquals(0, Injector.getContextNames().length);
 	}
 
+	@Test
+	public void testContextNameSet() {
+		Set<String> names = Injector.getContextNameSet();
+		assertTrue(names.isEmpty());
+
+		Injector.getContext("ctx1");
+		Injector.getContext("ctx2")
+			.remove();
+		Injector.getContext("ctx3");
+
+		assertEquals(new HashSet<>(Arrays.asList("ctx1", "ctx3")), names);
+	}
+
+	@Test
+	public void testConcurrentGetContext() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Injector>> injectors = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				String name = "session" + (i % 10);
+				injectors.add(pool.submit(() -> Injector.getContext(name)));
+			}
+			for (Future<Injector> injector : injectors) {
+				assertTrue(injector.get() == Injector.getContext(injector.get()
+					.getName()));
+			}
+			assertEquals(10, Injector.getContextNameSet()
+				.size());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testRemoveOnlyRemovesSameInjector() {
+		Injector removed = Injector.getContext("session");
+		removed.remove();
+		Injector current = Injector.getContext("session");
+
+		removed.remove();
+
+		assertTrue(current == Injector.getContext("session"));
+	}
+
 	/**
 	 * Connect beans to instances: <br>
 	 * A -> b <br>
@@ -186,6 +238,18 @@ public class InjectionTest extends TestBase {
 		assertFalse(injector.getBean(B.class).isStarted);
 	}
 
+	@Test
+	public void testGetBeanNotCreated() {
+		Injector injector = Injector.getContext("main")
+			.makeBeans(C.class);
+
+		assertNotNull(injector.getBean(D.class));
+		assertNull(injector.getBean(A.class));
+		assertNull(injector.getBean(Runnable.class));
+		assertNull(Injector.getContext("other")
+			.getBean(C.class));
+	}
+
 	@Test(expected = ConstructionMissingException.class)
 	public void testMissingInterfaceConstruction() throws Exception {
 		Injector.getContext("app")
@@ -291,6 +355,84 @@ public class InjectionTest extends TestBase {
 		assertEquals(0, logTarget.toByteArray().length);
 	}
 
+	@Test
+	public void testInfoDisabled() {
+		StringWriter logTarget = new StringWriter();
+
+		try {
+			Injector.getContext("app")
+				.setLogger(new LogBindingAdapter(new PrintWriter(logTarget)).setInfoEnabled(false))
+				.makeBeans(MyApplicationImpl.class);
+		} catch (ConstructionMissingException e) {
+			// expected
+		}
+
+		assertFalse(logTarget.toString()
+			.contains("[INFO]"));
+		assertTrue(logTarget.toString()
+			.contains("[ERROR]"));
+	}
+
+	@Test
+	public void testLoggerWithoutCaller() {
+		StringWriter logTarget = new StringWriter();
+		Injector.getContext("app")
+			.setLogger(new LogBindingAdapter(new PrintWriter(logTarget)) {
+				@Override
+				protected StackTraceElement findCaller() {
+					return null;
+				}
+			})
+			.makeBeans(A.class);
+
+		assertTrue(logTarget.toString()
+			.contains("(null:-1)"));
+	}
+
+	@Test
+	public void testLoggerWithCallerHook() {
+		StringWriter logTarget = new StringWriter();
+		Injector.getContext("app")
+			.setLogger(new LogBindingAdapter(new PrintWriter(logTarget)) {
+				@Override
+				protected StackTraceElement findUserCodeStackTraceElement(StackTraceElement[] stackTrace) {
+					return new StackTraceElement("Hook", "call", "Hook.java", 42);
+				}
+			})
+			.makeBeans(A.class);
+
+		assertTrue(logTarget.toString()
+			.contains("(Hook.java:42)"));
+		assertFalse(logTarget.toString()
+			.contains("(A.java:"));
+	}
+
+	@Test
+	public void testLoggerWithStackArray() {
+		List<StackTraceElement[]> stacks = new ArrayList<>();
+		Injector.getContext("app")
+			.setLogger(new LogBindingInterface() {
+				@Override
+				public void info(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier) {
+					stacks.add(stack);
+				}
+
+				@Override
+				public void error(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier,
+						Throwable t) {
+				}
+
+				@Override
+				public void error(String contextName, StackTraceElement[] stack, Supplier<String> msgSupplier) {
+				}
+			})
+			.makeBeans(D.class);
+
+		assertFalse(stacks.isEmpty());
+		assertTrue(stacks.stream()
+			.allMatch(stack -> stack.length > 0));
+	}
+
 	private ExecutorService exec = Executors.newSingleThreadExecutor();
 
 	private D createD_inNewThread() {
@@ -0,0 +1,91 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import coded.dependency.injection.exception.ConstructionMissingException;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.MyApplicationImpl;
+import coded.dependency.injection.internal.fortest.MyServiceImplementation;
+import coded.dependency.injection.internal.fortest.MyServiceInterface;
+
+public class InjectorTemplateTest extends TestBase {
+
+	@Test
+	public void testContextsShareConstructions() {
+		AtomicInteger created = new AtomicInteger();
+		InjectorTemplate template = InjectorTemplate.create()
+			.defineConstruction(MyServiceInterface.class, () -> {
+				created.incrementAndGet();
+				return new MyServiceImplementation();
+			})
+			.setLogger(null);
+
+		Injector session1 = Injector.getContext("session1", template)
+			.makeBeans(MyApplicationImpl.class);
+		Injector session2 = Injector.getContext("session2", template)
+			.makeBeans(MyApplicationImpl.class);
+
+		assertEquals(2, created.get());
+		assertEquals("greets from my service", session1.getBean(MyApplicationImpl.class)
+			.getGreets());
+		assertNotSame(session1.getBean(MyServiceInterface.class), session2.getBean(MyServiceInterface.class));
+		assertNotSame(session1.getBean(B.class), session2.getBean(B.class));
+	}
+
+	@Test
+	public void testExistingContextReturned() {
+		InjectorTemplate template = InjectorTemplate.create();
+		Injector injector = Injector.getContext("session");
+		assertSame(injector, Injector.getContext("session", template));
+	}
+
+	@Test(expected = ConstructionMissingException.class)
+	public void testContextDefinitionDoesNotChangeTemplate() {
+		InjectorTemplate template = InjectorTemplate.create()
+			.setLogger(null);
+		Injector.getContext("session1", template)
+			.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new)
+			.makeBeans(MyApplicationImpl.class);
+		Injector.getContext("session2", template)
+			.makeBeans(MyApplicationImpl.class);
+	}
+
+	@Test(expected = ConstructionMissingException.class)
+	public void testTemplateDefinitionDoesNotChangeContext() {
+		InjectorTemplate template = InjectorTemplate.create()
+			.setLogger(null);
+		Injector session1 = Injector.getContext("session1", template);
+		template.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new);
+		Injector session2 = Injector.getContext("session2", template);
+
+		session2.makeBeans(MyApplicationImpl.class);
+		session1.makeBeans(MyApplicationImpl.class);
+	}
+
+	@Test
+	public void testSharedLogger() {
+		StringWriter logs = new StringWriter();
+		InjectorTemplate template = InjectorTemplate.create()
+			.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new)
+			.setLogger(new _LogBindingAdapterCapture(new PrintWriter(logs, true)));
+
+		Injector.getContext("session1", template)
+			.makeBeans(MyApplicationImpl.class);
+		Injector.getContext("session2", template)
+			.makeBeans(MyApplicationImpl.class);
+
+		assertTrue(logs.toString()
+			.contains("injector 'session1'"));
+		assertTrue(logs.toString()
+			.contains("injector 'session2'"));
+	}
+}
@@ -0,0 +1,106 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrEventsTest extends TestBase {
+
+	private static final String PREFIX = "coded.dependency.injection.";
+
+	private static List<RecordedEvent> record(Runnable runnable) throws Exception {
+		Path file = Files.createTempFile("jcodeddi", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(PREFIX + "BeanConstruction")
+				.withThreshold(java.time.Duration.ZERO);
+			recording.enable(PREFIX + "Injection")
+				.withThreshold(java.time.Duration.ZERO);
+			recording.enable(PREFIX + "Lifecycle")
+				.withThreshold(java.time.Duration.ZERO);
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file)
+				.stream()
+				.filter(event -> event.getEventType()
+					.getName()
+					.startsWith(PREFIX))
+				.collect(Collectors.toList());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String name, Class<?> beanClass) {
+		return events.stream()
+			.filter(event -> event.getEventType()
+				.getName()
+				.equals(PREFIX + name))
+			.filter(event -> beanClass.getName()
+				.equals(className(event, "beanClass")))
+			.collect(Collectors.toList());
+	}
+
+	private static String className(RecordedEvent event, String field) {
+		RecordedClass clz = event.getValue(field);
+		return clz == null ? null : clz.getName();
+	}
+
+	@Test
+	public void testConstructionAndInjection() throws Exception {
+		List<RecordedEvent> events = record(() -> Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class));
+
+		RecordedEvent a = events(events, "BeanConstruction", A.class).get(0);
+		assertEquals("app", a.getString("contextName"));
+		assertNull(className(a, "parentBeanClass"));
+		assertEquals(C.class.getName(), className(events(events, "BeanConstruction", D.class).get(0),
+				"parentBeanClass"));
+		assertEquals(4, events.stream()
+			.filter(event -> event.getEventType()
+				.getName()
+				.equals(PREFIX + "BeanConstruction"))
+			.count());
+
+		List<RecordedEvent> injectionsOfB = events(events, "Injection", B.class);
+		assertEquals(2, injectionsOfB.size());
+		assertTrue(injectionsOfB.stream()
+			.anyMatch(event -> D.class.getName()
+				.equals(className(event, "parentBeanClass"))));
+	}
+
+	@Test
+	public void testLifecycle() throws Exception {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class);
+		List<RecordedEvent> events = record(() -> injector.start()
+			.stop());
+
+		List<RecordedEvent> b = events(events, "Lifecycle", B.class);
+		assertEquals(2, b.size());
+		assertEquals("start", b.get(0)
+			.getString("action"));
+		assertEquals("stop", b.get(1)
+			.getString("action"));
+		assertEquals(A.class.getName(), className(b.get(0), "parentBeanClass"));
+	}
+}
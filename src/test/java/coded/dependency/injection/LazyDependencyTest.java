@@ -0,0 +1,257 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import coded.dependency.injection.exception.ConstructionMissingException;
+
+public class LazyDependencyTest extends TestBase {
+
+	public static class Portal implements Dependent, Lifecycle {
+		final Dependency<Audit> audit = new Dependency<>(this, Audit.class);
+		final Dependency<Admin> admin = new LazyDependency<>(this, Admin.class);
+		boolean running;
+
+		@Override
+		public void start() {
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+
+	public static class Admin implements Dependent, Lifecycle {
+		static final AtomicInteger created = new AtomicInteger();
+		static final AtomicInteger started = new AtomicInteger();
+		final Dependency<Audit> audit = new Dependency<>(this, Audit.class);
+		final Dependency<Report> report = new Dependency<>(this, Report.class);
+		boolean running;
+
+		public Admin() {
+			created.incrementAndGet();
+		}
+
+		@Override
+		public void start() {
+			started.incrementAndGet();
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+
+	public static class Report implements Lifecycle {
+		boolean running;
+
+		@Override
+		public void start() {
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+
+	public static class Audit {
+	}
+
+	public static class Broken implements Dependent {
+		final Dependency<Runnable> task = new LazyDependency<>(this, Runnable.class);
+	}
+
+	public static class Holder implements Dependent {
+		final Dependency<Outer> outer = new LazyDependency<>(this, Outer.class);
+	}
+
+	public static class Outer implements Dependent {
+		final Dependency<Inner> inner = new Dependency<>(this, Inner.class);
+	}
+
+	/**
+	 * Resolves a lazy dependency within its construction, after {@link Outer} is
+	 * lazily created by another thread.
+	 */
+	public static class Inner implements Dependent {
+		static CountDownLatch creating, outerCreating;
+		final Dependency<Audit> audit = new LazyDependency<>(this, Audit.class);
+
+		public Inner() {
+			creating.countDown();
+			await(outerCreating);
+			audit.get();
+		}
+	}
+
+	static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("timeout");
+			}
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	public void testCreatedOnFirstGet() {
+		Injector injector = Injector.getContext("app")
+			.makeBeans(Portal.class);
+		assertNull(injector.getBean(Admin.class));
+		assertNull(injector.getBean(Report.class));
+
+		Portal portal = injector.getBean(Portal.class);
+		assertTrue(portal.admin.isDeferred());
+		Admin admin = portal.admin.get();
+		assertFalse(portal.admin.isDeferred());
+		assertSame(admin, injector.getBean(Admin.class));
+		assertSame(admin, portal.admin.get());
+		assertSame(portal.audit.get(), admin.audit.get());
+		assertNotNull(injector.getBean(Report.class));
+	}
+
+	@Test
+	public void testLifecycle() {
+		Injector injector = Injector.getContext("app")
+			.makeBeans(Portal.class)
+			.start();
+		Portal portal = injector.getBean(Portal.class);
+		assertTrue(portal.running);
+
+		Admin admin = portal.admin.get();
+		assertTrue(admin.running);
+		assertTrue(admin.report.get().running);
+
+		injector.stop();
+		assertFalse(portal.running);
+		assertFalse(admin.running);
+		assertFalse(admin.report.get().running);
+	}
+
+	@Test
+	public void testDeferredNotStarted() {
+		Injector injector = Injector.getContext("app")
+			.makeBeans(Portal.class)
+			.start()
+			.stop();
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			injector.start(exec);
+		} finally {
+			exec.shutdown();
+		}
+		assertNull(injector.getBean(Admin.class));
+	}
+
+	@Test
+	public void testPrint() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Injector.getContext("app")
+			.makeBeans(Portal.class)
+			.print(new PrintStream(out, true));
+		assertTrue(out.toString()
+			.contains("-> DEFERRED dependency to: " + Admin.class.getName()));
+	}
+
+	@Test
+	public void testConcurrentGet() throws Exception {
+		Admin.created.set(0);
+		Admin.started.set(0);
+		Portal portal = Injector.getContext("app")
+			.makeBeans(Portal.class)
+			.start()
+			.getBean(Portal.class);
+		CountDownLatch go = new CountDownLatch(1);
+		ExecutorService exec = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Admin>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(exec.submit(() -> {
+					go.await();
+					return portal.admin.get();
+				}));
+			}
+			go.countDown();
+			for (Future<Admin> result : results) {
+				assertSame(results.get(0)
+					.get(), result.get());
+			}
+		} finally {
+			exec.shutdown();
+		}
+		assertEquals(1, Admin.created.get());
+		assertEquals(1, Admin.started.get());
+	}
+
+	/**
+	 * Thread 1 makes Inner, thread 2 lazily creates Outer -> Inner and waits for
+	 * thread 1, which lazily creates Audit meanwhile.
+	 */
+	@Test
+	public void testLazyGetWhileOtherThreadWaits() throws Exception {
+		Inner.creating = new CountDownLatch(1);
+		Inner.outerCreating = new CountDownLatch(1);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(Outer.class, () -> {
+				Inner.outerCreating.countDown();
+				return new Outer();
+			})
+			.makeBeans(Holder.class);
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			Future<Injector> inner = exec.submit(() -> injector.makeBeans(Inner.class));
+			await(Inner.creating);
+			Future<Outer> outer = exec.submit(() -> injector.getBean(Holder.class).outer.get());
+
+			inner.get(10, TimeUnit.SECONDS);
+			assertSame(injector.getBean(Inner.class), outer.get(10, TimeUnit.SECONDS).inner.get());
+			assertNotNull(injector.getBean(Audit.class));
+		} finally {
+			exec.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testParallelMakeBeans() {
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			Injector injector = Injector.getContext("app")
+				.makeBeans(Portal.class, exec);
+			assertNull(injector.getBean(Admin.class));
+			assertNotNull(injector.getBean(Portal.class).admin.get());
+		} finally {
+			exec.shutdown();
+		}
+	}
+
+	@Test(expected = ConstructionMissingException.class)
+	public void testFailureOnGet() {
+		Injector.getContext("app")
+			.makeBeans(Broken.class)
+			.getBean(Broken.class).task.get();
+	}
+}
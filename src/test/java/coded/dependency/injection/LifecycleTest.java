@@ -5,11 +5,16 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import coded.dependency.injection.internal.fortest.HelperProcessStarter;
 import coded.dependency.injection.internal.fortest.Interface1;
 import coded.dependency.injection.internal.fortest.Interface1And2Impl;
 import coded.dependency.injection.internal.fortest.Interface1Dependent;
 import coded.dependency.injection.internal.fortest.Interface2;
 import coded.dependency.injection.internal.fortest.Interface2Dependent;
+import coded.dependency.injection.internal.fortest.MyApp;
+import coded.dependency.injection.internal.fortest.MyAppImpl;
+import coded.dependency.injection.internal.fortest.MyService;
+import coded.dependency.injection.internal.fortest.MyServiceImpl;
 
 public class LifecycleTest extends TestBase {
 
@@ -58,121 +63,3 @@ public class LifecycleTest extends TestBase {
 			.isRunning());
 	}
 }
-
-interface MyApp extends Dependent, Lifecycle {
-	public boolean isRunning();
-}
-
-interface MyService extends Lifecycle {
-	public boolean isRunning();
-
-	public String greets();
-}
-
-class MyServiceImpl implements Dependent, MyService {
-
-	HelperProcessStarter extSvc = new Dependency<>(this, HelperProcessStarter.class).get();
-
-	private boolean isRunning;
-
-	@Override
-	public void start() {
-		if (isRunning) {
-			throw new IllegalStateException("already running");
-		}
-
-		if (!extSvc.isRunning()) {
-			throw new IllegalStateException("HelperProcess must run");
-		}
-
-		isRunning = true;
-		System.out.println("MyService started.");
-	}
-
-	@Override
-	public void stop() {
-		if (!isRunning) {
-			throw new IllegalStateException("already stopped");
-		}
-
-		if (!extSvc.isRunning()) {
-			throw new IllegalStateException("HelperProcess must run");
-		}
-
-		isRunning = false;
-		System.out.println("MyService stopped.");
-	}
-
-	@Override
-	public String greets() {
-		return "hello, MyService is ready to go";
-	}
-
-	@Override
-	public boolean isRunning() {
-		return isRunning;
-	}
-
-}
-
-class MyAppImpl implements MyApp {
-	private boolean isRunning;
-
-	MyService svc = new Dependency<>(this, MyService.class).get();
-
-	@Override
-	public void start() {
-		if (isRunning) {
-			throw new IllegalStateException("already running");
-		}
-		if (!svc.isRunning()) {
-			throw new IllegalStateException("svc is not running");
-		}
-		isRunning = true;
-		String svcGreets = svc.greets();
-		System.out.println("MyApp started, greets from svc: " + svcGreets);
-	}
-
-	@Override
-	public void stop() {
-		if (!isRunning) {
-			throw new IllegalStateException("already stopped");
-		}
-		if (!svc.isRunning()) {
-			throw new IllegalStateException("svc is not running");
-		}
-		isRunning = false;
-		System.out.println("MyApp stopped");
-	}
-
-	@Override
-	public boolean isRunning() {
-		return isRunning;
-	}
-}
-
-class HelperProcessStarter implements Lifecycle {
-	private boolean isRunning;
-
-	@Override
-	public void start() {
-		if (isRunning) {
-			throw new IllegalStateException("already running");
-		}
-		isRunning = true;
-		System.out.println("SomeHelperProcess is started");
-	}
-
-	@Override
-	public void stop() {
-		if (!isRunning) {
-			throw new IllegalStateException("already stopped");
-		}
-		isRunning = false;
-		System.out.println("SomeHelperProcess stopped");
-	}
-
-	public boolean isRunning() {
-		return isRunning;
-	}
-}
@@ -0,0 +1,117 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.A2;
+
+public class MBeanTest extends TestBase {
+
+	private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+	@After
+	public void disableMBeans() {
+		Injector.setMBeansEnabled(false);
+	}
+
+	private static ObjectName injectorName(String contextName) throws Exception {
+		return new ObjectName("coded.dependency.injection:type=Injector,name=" + ObjectName.quote(contextName));
+	}
+
+	@Test
+	public void testInjectorMBean() throws Exception {
+		Injector.setMBeansEnabled(true);
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class);
+		injector.getBean(A.class);
+		injector.getBean(A2.class);
+
+		ObjectName name = injectorName("app");
+		assertEquals("app", server.getAttribute(name, "Name"));
+		assertEquals(4, server.getAttribute(name, "BeanCount"));
+		assertEquals(4L, server.getAttribute(name, "ConstructionCount"));
+		assertTrue((Long) server.getAttribute(name, "ConstructionTimeNanos") > 0);
+		assertEquals(1L, server.getAttribute(name, "BeanHitCount"));
+		assertEquals(1L, server.getAttribute(name, "BeanMissCount"));
+		assertEquals("NEW", server.getAttribute(name, "LifecycleState"));
+
+		injector.start();
+		assertEquals("STARTED", server.getAttribute(name, "LifecycleState"));
+		injector.print(new PrintStream(new ByteArrayOutputStream(), true))
+			.stop()
+			.freeze();
+		assertEquals("STOPPED", server.getAttribute(name, "LifecycleState"));
+		assertEquals(true, server.getAttribute(name, "Frozen"));
+		assertEquals(4, server.getAttribute(name, "BeanCount"));
+		assertEquals(1L, server.getAttribute(name, "BeanHitCount"));
+		assertEquals(1L, server.getAttribute(name, "BeanMissCount"));
+	}
+
+	@Test
+	public void testAggregateMBean() throws Exception {
+		Injector.getContext("ctx1");
+		Injector.setMBeansEnabled(true);
+		Injector.getContext("ctx2");
+
+		ObjectName name = new ObjectName("coded.dependency.injection:type=Injectors");
+		assertEquals(2, server.getAttribute(name, "ContextCount"));
+		assertTrue(server.isRegistered(injectorName("ctx1")));
+		assertTrue(server.isRegistered(injectorName("ctx2")));
+
+		Injector.setMBeansEnabled(false);
+		assertFalse(server.isRegistered(name));
+		assertFalse(server.isRegistered(injectorName("ctx1")));
+	}
+
+	@Test
+	public void testCountersOnlyWhileEnabled() throws Exception {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class);
+		injector.getBean(A.class);
+		Injector.setMBeansEnabled(true);
+		ObjectName name = injectorName("app");
+		assertEquals(0L, server.getAttribute(name, "ConstructionCount"));
+		assertEquals(0L, server.getAttribute(name, "BeanHitCount"));
+
+		injector.getBean(A.class);
+		Injector.getContext("other")
+			.setLogger(null)
+			.makeBeans(A.class)
+			.getBean(A2.class);
+		ObjectName aggregate = new ObjectName("coded.dependency.injection:type=Injectors");
+		assertEquals(1L, server.getAttribute(aggregate, "BeanHitCount"));
+		assertEquals(1L, server.getAttribute(aggregate, "BeanMissCount"));
+		assertEquals(4L, server.getAttribute(aggregate, "ConstructionCount"));
+
+		Injector.getContext("other")
+			.remove();
+		assertEquals(0L, server.getAttribute(aggregate, "BeanMissCount"));
+		assertEquals(0L, server.getAttribute(aggregate, "ConstructionCount"));
+	}
+
+	@Test
+	public void testRemoveUnregisters() throws Exception {
+		Injector.setMBeansEnabled(true);
+		Injector.getContext("app")
+			.remove();
+		assertFalse(server.isRegistered(injectorName("app")));
+
+		Injector.getContext("app");
+		Injector.removeAll();
+		assertFalse(server.isRegistered(injectorName("app")));
+	}
+}
@@ -0,0 +1,450 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.exception.LifecycleException;
+import coded.dependency.injection.internal.fortest.HelperProcessStarter;
+import coded.dependency.injection.internal.fortest.Interface1;
+import coded.dependency.injection.internal.fortest.Interface1And2Impl;
+import coded.dependency.injection.internal.fortest.Interface1Dependent;
+import coded.dependency.injection.internal.fortest.Interface2;
+import coded.dependency.injection.internal.fortest.Interface2Dependent;
+import coded.dependency.injection.internal.fortest.MyApp;
+import coded.dependency.injection.internal.fortest.MyAppImpl;
+import coded.dependency.injection.internal.fortest.MyService;
+import coded.dependency.injection.internal.fortest.MyServiceImpl;
+
+public class ParallelLifecycleTest extends TestBase {
+
+	private ExecutorService exec = Executors.newFixedThreadPool(4);
+
+	@After
+	public void afterParallelLifecycleTest() {
+		exec.shutdownNow();
+	}
+
+	/**
+	 * Gateway -> Cache, Pool: Cache and Pool only start if they are started at the
+	 * same time, Gateway requires both to run.
+	 */
+	@Test
+	public void testStartIndependentBeansInParallel() {
+		CountDownLatch bothStarting = new CountDownLatch(2);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(Gateway.class, Gateway::new)
+			.defineConstruction(Cache.class, () -> new Cache(bothStarting))
+			.defineConstruction(Pool.class, () -> new Pool(bothStarting, false))
+			.makeBeans(Gateway.class)
+			.start(exec);
+
+		assertTrue(injector.getBean(Cache.class).running);
+		assertTrue(injector.getBean(Pool.class).running);
+		assertTrue(injector.getBean(Gateway.class).running);
+
+		injector.stop();
+		assertFalse(injector.getBean(Gateway.class).running);
+	}
+
+	@Test
+	public void testFailedStartStopsStartedBeans() {
+		CountDownLatch cacheStarted = new CountDownLatch(1);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(Gateway.class, Gateway::new)
+			.defineConstruction(Cache.class, () -> new Cache(cacheStarted))
+			.defineConstruction(Pool.class, () -> new Pool(cacheStarted, true))
+			.makeBeans(Gateway.class);
+
+		try {
+			injector.start(exec);
+			fail("start must fail");
+		} catch (LifecycleException e) {
+			assertEquals(Arrays.asList(Pool.class.getName()), e.getBeanNames());
+			assertEquals("pool exhausted", e.getCause()
+				.getMessage());
+		}
+
+		assertFalse(injector.getBean(Cache.class).running);
+		assertTrue(injector.getBean(Cache.class).stopped);
+		assertFalse(injector.getBean(Pool.class).running);
+		assertFalse(injector.getBean(Gateway.class).running);
+	}
+
+	@Test
+	public void testStopAfterRetriedStart() {
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(Gateway.class, Gateway::new)
+			.defineConstruction(Cache.class, () -> new Cache(new CountDownLatch(0)))
+			.defineConstruction(Pool.class, FlakyPool::new)
+			.makeBeans(Gateway.class);
+
+		try {
+			injector.start(exec);
+			fail("first start must fail");
+		} catch (LifecycleException e) {
+			assertTrue(injector.getBean(Cache.class).stopped);
+		}
+		injector.start(exec);
+		assertTrue(injector.getBean(Cache.class).running);
+		assertTrue(injector.getBean(Gateway.class).running);
+
+		injector.stop();
+		assertFalse(injector.getBean(Gateway.class).running);
+		assertFalse(injector.getBean(Cache.class).running);
+		assertFalse(injector.getBean(Pool.class).running);
+	}
+
+	@Test
+	public void testServiceImplementsMultipleInterfaces() {
+		Injector injector = Injector.getContext("app");
+		injector.defineConstruction(Interface1.class, Interface1And2Impl::new)
+			.defineConstruction(Interface2.class, () -> injector.getBean(Interface1And2Impl.class))
+			.makeBeans(Interface1Dependent.class)
+			.makeBeans(Interface2Dependent.class)
+			.start(exec);
+
+		assertTrue(injector.getBean(Interface1And2Impl.class)
+			.isRunning());
+	}
+
+	/**
+	 * Gateway -> Cache, Pool: Pool hangs in stop, Cache is stopped after Gateway.
+	 */
+	@Test
+	public void testStopBeanTimeout() {
+		CountDownLatch release = new CountDownLatch(1);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(Gateway.class, Gateway::new)
+			.defineConstruction(Cache.class, () -> new Cache(new CountDownLatch(0)))
+			.defineConstruction(Pool.class, () -> new HangingPool(release))
+			.makeBeans(Gateway.class)
+			.start(exec);
+
+		try {
+			injector.stop(exec, Duration.ofSeconds(10), Duration.ofMillis(100));
+			fail("stop must time out");
+		} catch (LifecycleException e) {
+			assertEquals(Arrays.asList(HangingPool.class.getName()), e.getBeanNames());
+		} finally {
+			release.countDown();
+		}
+
+		assertFalse(injector.getBean(Gateway.class).running);
+		assertTrue(injector.getBean(Cache.class).stopped);
+	}
+
+	/**
+	 * HangingService -> Cache: HangingService exceeds the bean timeout and fails
+	 * while Cache is stopping, Cache stops within the bean timeout.
+	 */
+	@Test
+	public void testStopBeanTimeoutThenFailure() {
+		CountDownLatch release = new CountDownLatch(1);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(HangingService.class, () -> new FailingService(release))
+			.defineConstruction(Cache.class, () -> new SlowCache(release))
+			.makeBeans(HangingService.class)
+			.start(exec);
+
+		try {
+			injector.stop(exec, Duration.ofSeconds(10), Duration.ofMillis(300));
+			fail("stop must time out");
+		} catch (LifecycleException e) {
+			assertEquals(Arrays.asList(HangingService.class.getName()), e.getBeanNames());
+			assertEquals(1, e.getSuppressed().length);
+			assertEquals("service failed", e.getSuppressed()[0].getMessage());
+		}
+		assertTrue(injector.getBean(Cache.class).stopped);
+	}
+
+	/**
+	 * HangingService -> Cache: HangingService hangs in stop, with that Cache is not
+	 * stopped before the timeout.
+	 */
+	@Test
+	public void testStopTimeout() {
+		CountDownLatch release = new CountDownLatch(1);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(HangingService.class, () -> new HangingService(release))
+			.defineConstruction(Cache.class, () -> new Cache(new CountDownLatch(0)))
+			.makeBeans(HangingService.class)
+			.start(exec);
+
+		long begin = System.nanoTime();
+		try {
+			injector.stop(exec, Duration.ofMillis(200), Duration.ofSeconds(10));
+			fail("stop must time out");
+		} catch (LifecycleException e) {
+			assertEquals(Arrays.asList(HangingService.class.getName(), Cache.class.getName()), e.getBeanNames());
+		} finally {
+			release.countDown();
+		}
+		assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - begin) < 10);
+		assertTrue(injector.getBean(Cache.class).running);
+	}
+
+	@Test
+	public void testStopOrder() {
+		Injector injector = Injector.getContext("myapp")
+			.defineConstruction(MyApp.class, MyAppImpl::new)
+			.defineConstruction(MyService.class, MyServiceImpl::new)
+			.defineConstruction(HelperProcessStarter.class, HelperProcessStarter::new)
+			.makeBeans(MyApp.class)
+			.start(exec)
+			.stop(exec, Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+		assertFalse(injector.getBean(HelperProcessStarter.class)
+			.isRunning());
+		assertFalse(injector.getBean(MyApp.class)
+			.isRunning());
+		assertFalse(injector.getBean(MyService.class)
+			.isRunning());
+	}
+
+	/**
+	 * An executor running tasks in the calling thread must not nest the start or
+	 * stop of a dependency level in the previous one.
+	 */
+	@Test
+	public void testDirectExecutorDoesNotNest() {
+		AtomicInteger depth = new AtomicInteger();
+		AtomicInteger maxDepth = new AtomicInteger();
+		Executor direct = task -> {
+			maxDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+			try {
+				task.run();
+			} finally {
+				depth.decrementAndGet();
+			}
+		};
+		Injector injector = Injector.getContext("myapp")
+			.defineConstruction(MyApp.class, MyAppImpl::new)
+			.defineConstruction(MyService.class, MyServiceImpl::new)
+			.defineConstruction(HelperProcessStarter.class, HelperProcessStarter::new)
+			.makeBeans(MyApp.class)
+			.start(direct);
+		assertTrue(injector.getBean(MyApp.class)
+			.isRunning());
+
+		injector.stop(direct, Duration.ofSeconds(10), Duration.ofSeconds(10));
+		assertFalse(injector.getBean(MyApp.class)
+			.isRunning());
+		assertEquals(1, maxDepth.get());
+	}
+
+	/**
+	 * A second stop while HangingService is stopping must not stop it again.
+	 */
+	@Test
+	public void testConcurrentStopsStopBeanOnce() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(HangingService.class, () -> new CountingService(release))
+			.defineConstruction(Cache.class, () -> new Cache(new CountDownLatch(0)))
+			.makeBeans(HangingService.class)
+			.start();
+		CountingService service = (CountingService) injector.getBean(HangingService.class);
+
+		Future<?> first = exec.submit(() -> injector.stop());
+		await(service.stopping);
+		injector.stop(exec, Duration.ofSeconds(10), Duration.ofSeconds(10));
+		release.countDown();
+		first.get(10, TimeUnit.SECONDS);
+
+		assertEquals(1, service.stops.get());
+	}
+
+	static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("timeout");
+			}
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static class Cache implements Lifecycle {
+		final CountDownLatch latch;
+		volatile boolean running, stopped;
+
+		Cache(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@Override
+		public void start() {
+			latch.countDown();
+			await(latch);
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+			stopped = true;
+		}
+	}
+
+	static class Pool implements Lifecycle {
+		final CountDownLatch latch;
+		final boolean fail;
+		volatile boolean running;
+
+		Pool(CountDownLatch latch, boolean fail) {
+			this.latch = latch;
+			this.fail = fail;
+		}
+
+		@Override
+		public void start() {
+			if (fail) {
+				await(latch);
+				throw new IllegalStateException("pool exhausted");
+			}
+			latch.countDown();
+			await(latch);
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+
+	static class FlakyPool extends Pool {
+		private boolean failed;
+
+		FlakyPool() {
+			super(new CountDownLatch(0), false);
+		}
+
+		@Override
+		public void start() {
+			if (!failed) {
+				failed = true;
+				throw new IllegalStateException("pool exhausted");
+			}
+			running = true;
+		}
+	}
+
+	static class HangingPool extends Pool {
+		HangingPool(CountDownLatch release) {
+			super(release, false);
+		}
+
+		@Override
+		public void start() {
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			await(latch);
+			running = false;
+		}
+	}
+
+	static class HangingService implements Dependent, Lifecycle {
+		Cache cache = new Dependency<>(this, Cache.class).get();
+		final CountDownLatch release;
+
+		HangingService(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void start() {
+		}
+
+		@Override
+		public void stop() {
+			await(release);
+		}
+	}
+
+	static class SlowCache extends Cache {
+		final CountDownLatch release;
+
+		SlowCache(CountDownLatch release) {
+			super(new CountDownLatch(0));
+			this.release = release;
+		}
+
+		@Override
+		public void stop() {
+			release.countDown();
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread()
+					.interrupt();
+			}
+			super.stop();
+		}
+	}
+
+	static class FailingService extends HangingService {
+		FailingService(CountDownLatch release) {
+			super(release);
+		}
+
+		@Override
+		public void stop() {
+			super.stop();
+			throw new IllegalStateException("service failed");
+		}
+	}
+
+	static class CountingService extends HangingService {
+		final CountDownLatch stopping = new CountDownLatch(1);
+		final AtomicInteger stops = new AtomicInteger();
+
+		CountingService(CountDownLatch release) {
+			super(release);
+		}
+
+		@Override
+		public void stop() {
+			stops.incrementAndGet();
+			stopping.countDown();
+			super.stop();
+		}
+	}
+
+	static class Gateway implements Dependent, Lifecycle {
+		Cache cache = new Dependency<>(this, Cache.class).get();
+		Pool pool = new Dependency<>(this, Pool.class).get();
+		volatile boolean running;
+
+		@Override
+		public void start() {
+			if (!cache.running || !pool.running) {
+				throw new IllegalStateException("dependencies must run");
+			}
+			running = true;
+		}
+
+		@Override
+		public void stop() {
+			running = false;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import coded.dependency.injection.exception.CyclicDependencyException;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.A2;
+import coded.dependency.injection.internal.fortest.AtoB;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.BtoA;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+import coded.dependency.injection.internal.fortest.HelperProcessStarter;
+import coded.dependency.injection.internal.fortest.MainWithCycle;
+import coded.dependency.injection.internal.fortest.MyApp;
+import coded.dependency.injection.internal.fortest.MyAppImpl;
+import coded.dependency.injection.internal.fortest.MyAppToService;
+import coded.dependency.injection.internal.fortest.MyApplicationInterface;
+import coded.dependency.injection.internal.fortest.MyApplicationImpl;
+import coded.dependency.injection.internal.fortest.MyService;
+import coded.dependency.injection.internal.fortest.MyServiceImpl;
+import coded.dependency.injection.internal.fortest.MyServiceImplementation;
+import coded.dependency.injection.internal.fortest.MyServiceInterface;
+import coded.dependency.injection.internal.fortest.MyServiceToApp;
+
+public class ParallelMakeBeansTest extends TestBase {
+
+	private ExecutorService exec = Executors.newFixedThreadPool(4);
+
+	@After
+	public void afterParallelMakeBeansTest() {
+		exec.shutdownNow();
+	}
+
+	/**
+	 * A -> B, C: the suppliers of B and C only succeed if they run at the same
+	 * time.
+	 */
+	@Test
+	public void testSiblingsAreCreatedInParallel() throws Exception {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+
+		Injector injector = Injector.getContext("parallel")
+			.defineConstruction(B.class, () -> {
+				awaitSibling(bothRunning);
+				return new B();
+			})
+			.defineConstruction(C.class, () -> {
+				awaitSibling(bothRunning);
+				return new C();
+			})
+			.makeBeans(A.class, exec);
+
+		A a = injector.getBean(A.class);
+		assertNotNull(a);
+		assertTrue(a.b.get() == injector.getBean(B.class));
+		assertTrue(a.c.get() == injector.getBean(C.class));
+		assertNotNull(injector.getBean(D.class));
+	}
+
+	private static void awaitSibling(CountDownLatch bothRunning) {
+		bothRunning.countDown();
+		try {
+			if (!bothRunning.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("sibling is not created in parallel");
+			}
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * A -> B, C and A2 -> B, C and C -> D -> B
+	 */
+	@Test
+	public void testSingletons() {
+		AtomicInteger newCntB = new AtomicInteger();
+		AtomicInteger newCntC = new AtomicInteger();
+		AtomicInteger newCntD = new AtomicInteger();
+
+		Injector injector = Injector.getContext("multi")
+			.defineConstruction(B.class, () -> {
+				newCntB.incrementAndGet();
+				return new B();
+			})
+			.defineConstruction(C.class, () -> {
+				newCntC.incrementAndGet();
+				return new C();
+			})
+			.defineConstruction(D.class, () -> {
+				newCntD.incrementAndGet();
+				return new D();
+			})
+			.makeBeans(A.class, ForkJoinPool.commonPool())
+			.makeBeans(A2.class, ForkJoinPool.commonPool());
+
+		assertEquals(1, newCntB.get());
+		assertEquals(1, newCntC.get());
+		assertEquals(1, newCntD.get());
+		assertTrue(injector.getBean(A.class).b.get() == injector.getBean(A2.class).b.get());
+		assertTrue(injector.getBean(A.class).c.get() == injector.getBean(A2.class).c.get());
+	}
+
+	/**
+	 * Dependencies resolved within constructors must not starve a single thread
+	 * executor.
+	 */
+	@Test
+	public void testSingleThreadExecutor() {
+		ExecutorService single = Executors.newSingleThreadExecutor();
+		try {
+			Injector injector = Injector.getContext("myapp")
+				.defineConstruction(MyApp.class, MyAppImpl::new)
+				.defineConstruction(MyService.class, MyServiceImpl::new)
+				.defineConstruction(HelperProcessStarter.class, HelperProcessStarter::new)
+				.makeBeans(MyApp.class, single)
+				.start();
+
+			assertTrue(injector.getBean(MyApp.class)
+				.isRunning());
+			assertTrue(injector.getBean(HelperProcessStarter.class)
+				.isRunning());
+			injector.stop();
+		} finally {
+			single.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLifecycle() {
+		Injector injector = Injector.getContext("app")
+			.defineConstruction(MyServiceInterface.class, MyServiceImplementation::new)
+			.makeBeans(MyApplicationImpl.class, exec)
+			.start();
+
+		assertTrue(injector.getBean(MyApplicationImpl.class)
+			.isStarted());
+		assertTrue(injector.getBean(MyServiceImplementation.class)
+			.isInitialized());
+		assertTrue(injector.getBean(B.class).isStarted);
+
+		injector.stop();
+		assertTrue(injector.getBean(MyApplicationImpl.class)
+			.isStopped());
+	}
+
+	@Test(expected = CyclicDependencyException.class)
+	public void testBidirectionalDependency() {
+		Injector.getContext("app")
+			.defineConstruction(AtoB.class, AtoB::new)
+			.defineConstruction(BtoA.class, BtoA::new)
+			.makeBeans(AtoB.class, exec);
+	}
+
+	@Test(expected = CyclicDependencyException.class)
+	public void testDeepCyclicDependency() {
+		Injector.getContext("app")
+			.makeBeans(MainWithCycle.class, exec);
+	}
+
+	@Test(expected = CyclicDependencyException.class)
+	public void testCyclicDependencyResolvedInConstructor() {
+		Injector.getContext("app")
+			.defineConstruction(MyServiceInterface.class, MyServiceToApp::new)
+			.defineConstruction(MyApplicationInterface.class, MyAppToService::new)
+			.makeBeans(MyApplicationInterface.class, exec);
+	}
+}
@@ -0,0 +1,122 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import coded.dependency.injection.StartupProfile.BeanTiming;
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+
+public class StartupProfileTest extends TestBase {
+
+	private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(30);
+
+	/**
+	 * A -> B, C; C -> D -> B: the construction of D is slow.
+	 */
+	private Injector makeBeansWithSlowD() {
+		return Injector.getContext("app")
+			.setLogger(null)
+			.setProfilingEnabled(true)
+			.defineConstruction(D.class, () -> {
+				try {
+					Thread.sleep(TimeUnit.NANOSECONDS.toMillis(SLOW_NANOS));
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return new D();
+			})
+			.makeBeans(A.class);
+	}
+
+	private static BeanTiming timing(StartupProfile profile, Class<?> clz) {
+		return profile.getBeans()
+			.stream()
+			.filter(timing -> timing.getName()
+				.equals(clz.getName()))
+			.findFirst()
+			.get();
+	}
+
+	@Test
+	public void testInclusiveAndExclusive() {
+		StartupProfile profile = makeBeansWithSlowD().getStartupProfile();
+
+		assertEquals(4, profile.getBeans()
+			.size());
+		BeanTiming d = timing(profile, D.class);
+		BeanTiming c = timing(profile, C.class);
+		BeanTiming a = timing(profile, A.class);
+		assertTrue(d.getConstructionExclusiveNanos() >= SLOW_NANOS);
+		assertTrue(c.getConstructionNanos() >= SLOW_NANOS);
+		assertTrue(c.getConstructionExclusiveNanos() < SLOW_NANOS);
+		assertTrue(a.getConstructionNanos() >= c.getConstructionNanos());
+		assertTrue(a.getConstructionExclusiveNanos() < SLOW_NANOS);
+	}
+
+	@Test
+	public void testSlowestAndCriticalPath() {
+		StartupProfile profile = makeBeansWithSlowD().getStartupProfile();
+
+		assertEquals(D.class.getName(), profile.getSlowest(1)
+			.get(0)
+			.getName());
+		assertEquals(2, profile.getSlowest(2)
+			.size());
+		List<String> path = profile.getCriticalPath()
+			.stream()
+			.map(BeanTiming::getName)
+			.collect(Collectors.toList());
+		assertEquals(List.of(A.class.getName(), C.class.getName(), D.class.getName(), B.class.getName()), path);
+		assertTrue(profile.getCriticalPathNanos() >= SLOW_NANOS);
+		assertTrue(profile.toString()
+			.contains("Critical path"));
+	}
+
+	@Test
+	public void testStartTimes() {
+		StartupProfile profile = makeBeansWithSlowD().start()
+			.getStartupProfile();
+
+		BeanTiming b = timing(profile, B.class);
+		assertTrue(b.getStartNanos() > 0);
+		assertTrue(b.getStartNanos() >= b.getStartExclusiveNanos());
+		assertEquals(0, timing(profile, D.class).getStartNanos());
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		Injector injector = Injector.getContext("app")
+			.setLogger(null)
+			.makeBeans(A.class);
+
+		assertTrue(injector.getStartupProfile()
+			.getBeans()
+			.isEmpty());
+		assertEquals(0, injector.getWiringPlan()
+			.getBeans()
+			.get(0)
+			.getConstructionNanos());
+	}
+
+	@Test
+	public void testEnabledByTemplate() {
+		InjectorTemplate template = InjectorTemplate.create()
+			.setProfilingEnabled(true);
+		StartupProfile profile = Injector.getContext("app", template)
+			.setLogger(null)
+			.makeBeans(A.class)
+			.getStartupProfile();
+
+		assertEquals(4, profile.getBeans()
+			.size());
+	}
+}
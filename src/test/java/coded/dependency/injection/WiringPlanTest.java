@@ -0,0 +1,136 @@
+package coded.dependency.injection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import coded.dependency.injection.internal.fortest.A;
+import coded.dependency.injection.internal.fortest.B;
+import coded.dependency.injection.internal.fortest.C;
+import coded.dependency.injection.internal.fortest.D;
+
+public class WiringPlanTest extends TestBase {
+
+	private Path file;
+
+	@Before
+	public void createFile() throws IOException {
+		file = Files.createTempFile("jcodeddi", ".plan");
+	}
+
+	@After
+	public void deleteFile() throws IOException {
+		Files.delete(file);
+	}
+
+	private static List<String> classNames(WiringPlan plan) {
+		return plan.getBeans()
+			.stream()
+			.map(WiringPlan.Bean::getClassName)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * A -> B, C; C -> D -> B
+	 */
+	@Test
+	public void testRecordSaveLoad() throws IOException {
+		WiringPlan plan = Injector.getContext("app")
+			.setLogger(null)
+			.setProfilingEnabled(true)
+			.makeBeans(A.class)
+			.getWiringPlan();
+
+		assertEquals(List.of(A.class.getName()), plan.getRoots());
+		assertEquals(List.of(A.class.getName(), B.class.getName(), C.class.getName(), D.class.getName()),
+				classNames(plan));
+		assertArrayEquals(new int[] { 1, 2 }, plan.getBeans()
+			.get(0)
+			.getDependencies());
+		assertTrue(plan.getBeans()
+			.get(0)
+			.getConstructionNanos() > 0);
+
+		plan.save(file);
+		WiringPlan loaded = WiringPlan.load(file);
+		assertEquals(plan.getRoots(), loaded.getRoots());
+		assertEquals(classNames(plan), classNames(loaded));
+		for (int i = 0; i < plan.getBeans()
+			.size(); i++) {
+			WiringPlan.Bean bean = plan.getBeans()
+				.get(i);
+			WiringPlan.Bean loadedBean = loaded.getBeans()
+				.get(i);
+			assertArrayEquals(bean.getDependencies(), loadedBean.getDependencies());
+			assertEquals(bean.getConstructionNanos(), loadedBean.getConstructionNanos());
+			assertEquals(bean.getConstructionExclusiveNanos(), loadedBean.getConstructionExclusiveNanos());
+		}
+	}
+
+	@Test
+	public void testPreloadSkipsUnknownClasses() throws Exception {
+		Files.write(file, List.of("# jcodeddi wiring plan 1", "root " + A.class.getName(),
+				"bean " + A.class.getName() + " 10 5 1", "bean does.not.Exist 5 5"));
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			int initialized = WiringPlan.load(file)
+				.preload(getClass().getClassLoader(), exec)
+				.get(10, TimeUnit.SECONDS);
+			assertEquals(1, initialized);
+		} finally {
+			exec.shutdown();
+		}
+	}
+
+	@Test
+	public void testSuppliedBeans() throws IOException {
+		WiringPlan plan = Injector.getContext("app")
+			.setLogger(null)
+			.defineConstruction(B.class, B::new)
+			.makeBeans(A.class)
+			.getWiringPlan();
+
+		assertTrue(plan.getBeans()
+			.get(1)
+			.isSupplied());
+		assertFalse(plan.getBeans()
+			.get(0)
+			.isSupplied());
+
+		plan.save(file);
+		assertTrue(Files.readAllLines(file)
+			.contains("supplied " + B.class.getName() + " 0 0"));
+		List<WiringPlan.Bean> loaded = WiringPlan.load(file)
+			.getBeans();
+		assertTrue(loaded.get(1)
+			.isSupplied());
+		assertFalse(loaded.get(2)
+			.isSupplied());
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidDependency() throws IOException {
+		Files.write(file, List.of("# jcodeddi wiring plan 1", "bean " + A.class.getName() + " 10 5 1"));
+		WiringPlan.load(file);
+	}
+
+	@Test(expected = IOException.class)
+	public void testNoPlan() throws IOException {
+		Files.write(file, List.of("something else"));
+		WiringPlan.load(file);
+	}
+}
@@ -0,0 +1,29 @@
+package coded.dependency.injection.internal.fortest;
+
+import coded.dependency.injection.Lifecycle;
+
+public class HelperProcessStarter implements Lifecycle {
+	private boolean isRunning;
+
+	@Override
+	public void start() {
+		if (isRunning) {
+			throw new IllegalStateException("already running");
+		}
+		isRunning = true;
+		System.out.println("SomeHelperProcess is started");
+	}
+
+	@Override
+	public void stop() {
+		if (!isRunning) {
+			throw new IllegalStateException("already stopped");
+		}
+		isRunning = false;
+		System.out.println("SomeHelperProcess stopped");
+	}
+
+	public boolean isRunning() {
+		return isRunning;
+	}
+}
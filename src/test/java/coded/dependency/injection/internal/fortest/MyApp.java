@@ -0,0 +1,8 @@
+package coded.dependency.injection.internal.fortest;
+
+import coded.dependency.injection.Dependent;
+import coded.dependency.injection.Lifecycle;
+
+public interface MyApp extends Dependent, Lifecycle {
+	public boolean isRunning();
+}
@@ -0,0 +1,39 @@
+package coded.dependency.injection.internal.fortest;
+
+import coded.dependency.injection.Dependency;
+
+public class MyAppImpl implements MyApp {
+	private boolean isRunning;
+
+	MyService svc = new Dependency<>(this, MyService.class).get();
+
+	@Override
+	public void start() {
+		if (isRunning) {
+			throw new IllegalStateException("already running");
+		}
+		if (!svc.isRunning()) {
+			throw new IllegalStateException("svc is not running");
+		}
+		isRunning = true;
+		String svcGreets = svc.greets();
+		System.out.println("MyApp started, greets from svc: " + svcGreets);
+	}
+
+	@Override
+	public void stop() {
+		if (!isRunning) {
+			throw new IllegalStateException("already stopped");
+		}
+		if (!svc.isRunning()) {
+			throw new IllegalStateException("svc is not running");
+		}
+		isRunning = false;
+		System.out.println("MyApp stopped");
+	}
+
+	@Override
+	public boolean isRunning() {
+		return isRunning;
+	}
+}
@@ -0,0 +1,9 @@
+package coded.dependency.injection.internal.fortest;
+
+import coded.dependency.injection.Lifecycle;
+
+public interface MyService extends Lifecycle {
+	public boolean isRunning();
+
+	public String greets();
+}
@@ -0,0 +1,50 @@
+package coded.dependency.injection.internal.fortest;
+
+import coded.dependency.injection.Dependency;
+import coded.dependency.injection.Dependent;
+
+public class MyServiceImpl implements Dependent, MyService {
+
+	HelperProcessStarter extSvc = new Dependency<>(this, HelperProcessStarter.class).get();
+
+	private boolean isRunning;
+
+	@Override
+	public void start() {
+		if (isRunning) {
+			throw new IllegalStateException("already running");
+		}
+
+		if (!extSvc.isRunning()) {
+			throw new IllegalStateException("HelperProcess must run");
+		}
+
+		isRunning = true;
+		System.out.println("MyService started.");
+	}
+
+	@Override
+	public void stop() {
+		if (!isRunning) {
+			throw new IllegalStateException("already stopped");
+		}
+
+		if (!extSvc.isRunning()) {
+			throw new IllegalStateException("HelperProcess must run");
+		}
+
+		isRunning = false;
+		System.out.println("MyService stopped.");
+	}
+
+	@Override
+	public String greets() {
+		return "hello, MyService is ready to go";
+	}
+
+	@Override
+	public boolean isRunning() {
+		return isRunning;
+	}
+
+}